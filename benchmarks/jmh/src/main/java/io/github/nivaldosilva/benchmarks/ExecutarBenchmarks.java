@@ -0,0 +1,18 @@
+package io.github.nivaldosilva.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+// Mesmo uso do org.openjdk.jmh.Main, mas sempre com "-prof gc" para reportar gc.alloc.rate.norm (bytes por operação)
+public class ExecutarBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        List<String> argumentos = new ArrayList<>(Arrays.asList(args));
+        if (!argumentos.contains("gc")) {
+            argumentos.addAll(List.of("-prof", "gc"));
+        }
+        Main.main(argumentos.toArray(String[]::new));
+    }
+}
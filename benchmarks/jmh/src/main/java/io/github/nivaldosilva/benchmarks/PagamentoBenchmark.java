@@ -0,0 +1,58 @@
+package io.github.nivaldosilva.benchmarks;
+
+import io.github.nivaldosilva.ms_pagamentos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoResponse;
+import io.github.nivaldosilva.ms_pagamentos.entity.Pagamento;
+import io.github.nivaldosilva.ms_pagamentos.enums.FormaPagamento;
+import io.github.nivaldosilva.ms_pagamentos.enums.StatusPagamento;
+import io.github.nivaldosilva.ms_pagamentos.mapper.PagamentoMapper;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// mascaraNumero é privado; é medido através de toResponse, com números de cartão de 13, 16 e 19 dígitos
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagamentoBenchmark {
+
+    @Param({ "4111111111111", "4111111111111111", "4111111111111111111" })
+    private String numeroCartao;
+
+    private Pagamento pagamento;
+
+    @Setup
+    public void preparar() {
+        pagamento = Pagamento.builder()
+                .idPagamento(UUID.randomUUID())
+                .idPedido(UUID.randomUUID())
+                .valor(Dinheiro.deCentavos(10050))
+                .nomeTitular("Nivaldo Silva")
+                .numeroCartao(numeroCartao)
+                .validadeCartao("12/2030")
+                .codigoSeguranca("123")
+                .formaPagamento(FormaPagamento.CREDITO)
+                .statusPagamento(StatusPagamento.CONFIRMADO)
+                .dataPagamento(Instant.now())
+                .build();
+    }
+
+    @Benchmark
+    public PagamentoResponse toResponse() {
+        return PagamentoMapper.toResponse(pagamento);
+    }
+}
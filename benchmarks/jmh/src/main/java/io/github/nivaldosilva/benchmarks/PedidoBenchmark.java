@@ -0,0 +1,87 @@
+package io.github.nivaldosilva.benchmarks;
+
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
+import io.github.nivaldosilva.ms_pedidos.entity.ItemPedido;
+import io.github.nivaldosilva.ms_pedidos.entity.Pedido;
+import io.github.nivaldosilva.ms_pedidos.mapper.PedidoMapper;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoBenchmark {
+
+    @Param({ "1", "10", "200" })
+    private int quantidadeItens;
+
+    private Pedido pedido;
+    private ResumoPedidoProjecao projecao;
+
+    @Setup
+    public void preparar() {
+        List<PedidoRequest.ItemRequest> itens = IntStream.range(0, quantidadeItens)
+                .mapToObj(i -> PedidoRequest.ItemRequest.builder()
+                        .nome("Pizza Margherita " + i)
+                        .descricao("Molho de tomate, mussarela, manjericão")
+                        .precoUnitario(new BigDecimal("45.90").add(BigDecimal.valueOf(i, 2)))
+                        .quantidade(1 + i % 3)
+                        .observacao(i % 4 == 0 ? "Massa fina" : null)
+                        .build())
+                .toList();
+        pedido = PedidoMapper.toEntity(PedidoRequest.builder()
+                .itens(itens)
+                .observacoes("Sem cebola, por favor")
+                .build());
+        projecao = new ResumoPedidoProjecao(pedido.getIdPedido(), pedido.getNumero(), pedido.getStatusPedido(),
+                pedido.getDataHora(), pedido.getTotal(), pedido.getQuantidadeItens());
+    }
+
+    @Benchmark
+    public PedidoResponse toResponse() {
+        return PedidoMapper.toResponse(pedido);
+    }
+
+    @Benchmark
+    public PedidoResumo toResumo() {
+        return PedidoMapper.toResumo(pedido);
+    }
+
+    @Benchmark
+    public PedidoResumo toResumoDaProjecao() {
+        return PedidoMapper.toResumo(projecao);
+    }
+
+    @Benchmark
+    public Dinheiro calcularTotal() {
+        return pedido.calcularTotal();
+    }
+
+    @Benchmark
+    public void subtotalDosItens(Blackhole blackhole) {
+        for (ItemPedido item : pedido.getItens()) {
+            blackhole.consume(item.getSubtotal());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.nivaldosilva.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.nivaldosilva.ms_pagamentos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoResponse;
+import io.github.nivaldosilva.ms_pagamentos.entity.Pagamento;
+import io.github.nivaldosilva.ms_pagamentos.enums.FormaPagamento;
+import io.github.nivaldosilva.ms_pagamentos.enums.StatusPagamento;
+import io.github.nivaldosilva.ms_pagamentos.json.JacksonConfig;
+import io.github.nivaldosilva.ms_pagamentos.mapper.PagamentoMapper;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
+import io.github.nivaldosilva.ms_pedidos.json.config.JacksonConfiguration;
+import io.github.nivaldosilva.ms_pedidos.mapper.PedidoMapper;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// "padrao" é o ObjectMapper que os conversores do RabbitMQ criavam. "boot" é o que o serviço usa de fato:
+// JacksonAutoConfiguration com a configuração do serviço, chamado por writeValueAsBytes como nos conversores.
+// "semBlackbird" é o mesmo mapper sem o BlackbirdModule, para isolar o ganho do módulo.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({ "50" })
+    private int quantidadeItens;
+
+    private PedidoResponse pedido;
+    private PagamentoResponse pagamento;
+
+    private ObjectMapper padrao;
+    private ObjectMapper pedidosBoot;
+    private ObjectMapper pedidosSemBlackbird;
+    private ObjectMapper pagamentosBoot;
+    private ObjectMapper pagamentosSemBlackbird;
+    private final List<ConfigurableApplicationContext> contextos = new ArrayList<>();
+
+    @Setup
+    public void preparar() {
+        List<PedidoRequest.ItemRequest> itens = IntStream.range(0, quantidadeItens)
+                .mapToObj(i -> PedidoRequest.ItemRequest.builder()
+                        .nome("Pizza Margherita " + i)
+                        .descricao("Molho de tomate, mussarela, manjericão")
+                        .precoUnitario(new BigDecimal("45.90").add(BigDecimal.valueOf(i, 2)))
+                        .quantidade(1 + i % 3)
+                        .observacao(i % 4 == 0 ? "Massa fina" : null)
+                        .build())
+                .toList();
+        pedido = PedidoMapper.toResponse(PedidoMapper.toEntity(PedidoRequest.builder()
+                .itens(itens)
+                .observacoes("Sem cebola, por favor")
+                .build()));
+        pagamento = PagamentoMapper.toResponse(Pagamento.builder()
+                .idPagamento(UUID.randomUUID())
+                .idPedido(UUID.randomUUID())
+                .valor(Dinheiro.deCentavos(10050))
+                .nomeTitular("Nivaldo Silva")
+                .numeroCartao("4111111111111111")
+                .validadeCartao("12/2030")
+                .codigoSeguranca("123")
+                .formaPagamento(FormaPagamento.CREDITO)
+                .statusPagamento(StatusPagamento.CONFIRMADO)
+                .dataPagamento(Instant.now())
+                .build());
+
+        padrao = new ObjectMapper();
+        padrao.registerModule(new JavaTimeModule());
+
+        pedidosBoot = mapperDoServico(JacksonConfiguration.class, true);
+        pedidosSemBlackbird = mapperDoServico(JacksonConfiguration.class, false);
+        pagamentosBoot = mapperDoServico(JacksonConfig.class, true);
+        pagamentosSemBlackbird = mapperDoServico(JacksonConfig.class, false);
+    }
+
+    @TearDown
+    public void encerrar() {
+        contextos.forEach(ConfigurableApplicationContext::close);
+    }
+
+    // Sobe só a autoconfiguração do Jackson com a configuração do serviço; nenhum application.yml é lido
+    // porque os dois serviços o têm na raiz do classpath e nenhum define spring.jackson.*
+    private ObjectMapper mapperDoServico(Class<?> configuracao, boolean blackbird) {
+        SpringApplicationBuilder aplicacao = new SpringApplicationBuilder(JacksonAutoConfiguration.class, configuracao)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("spring.config.name=benchmark-sem-configuracao");
+        if (!blackbird) {
+            aplicacao.initializers(contexto -> contexto.addBeanFactoryPostProcessor((BeanFactoryPostProcessor)
+                    fabrica -> ((BeanDefinitionRegistry) fabrica).removeBeanDefinition("blackbirdModule")));
+        }
+        ConfigurableApplicationContext contexto = aplicacao.run();
+        contextos.add(contexto);
+        return contexto.getBean(ObjectMapper.class);
+    }
+
+    @Benchmark
+    public byte[] pedidoPadrao() throws Exception {
+        return padrao.writeValueAsBytes(pedido);
+    }
+
+    @Benchmark
+    public byte[] pedidoBoot() throws Exception {
+        return pedidosBoot.writeValueAsBytes(pedido);
+    }
+
+    @Benchmark
+    public byte[] pedidoBootSemBlackbird() throws Exception {
+        return pedidosSemBlackbird.writeValueAsBytes(pedido);
+    }
+
+    @Benchmark
+    public byte[] pagamentoPadrao() throws Exception {
+        return padrao.writeValueAsBytes(pagamento);
+    }
+
+    @Benchmark
+    public byte[] pagamentoBoot() throws Exception {
+        return pagamentosBoot.writeValueAsBytes(pagamento);
+    }
+
+    @Benchmark
+    public byte[] pagamentoBootSemBlackbird() throws Exception {
+        return pagamentosSemBlackbird.writeValueAsBytes(pagamento);
+    }
+}
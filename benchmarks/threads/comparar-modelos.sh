@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Compara threads de plataforma e threads virtuais sob a mesma carga.
+#
+# Uso: benchmarks/threads/comparar-modelos.sh <jar> <caminho> [concorrencia] [duracao]
+#   ex.: benchmarks/threads/comparar-modelos.sh ms-pedidos/target/ms-pedidos-0.0.1-SNAPSHOT-exec.jar "/pedidos?limite=50" 1000 30s
+#        benchmarks/threads/comparar-modelos.sh ms-pedidos/target/ms-pedidos-0.0.1-SNAPSHOT-exec.jar "/pedidos/{id}" 1000 30s
+#
+# Em "/pedidos/{id}" o script cria um pedido antes da carga e reduz a validade do cache para 1s,
+# para que as buscas no banco aconteçam durante o teste e não só na primeira requisição.
+# Termina com erro se alguma thread virtual ficar presa à thread portadora (pinning).
+#
+# Requer MySQL/RabbitMQ do docker-compose e a ferramenta de carga `hey` (https://github.com/rakyll/hey).
+# Com threads de plataforma o Tomcat atende no máximo 200 requisições por vez; acima disso as demais esperam na fila.
+set -euo pipefail
+
+JAR=${1:?informe o jar do serviço}
+CAMINHO=${2:?informe o caminho a ser testado}
+CONCORRENCIA=${3:-1000}
+DURACAO=${4:-30s}
+PORTA=${PORTA:-18080}
+AQUECIMENTO=${AQUECIMENTO:-10s}
+
+command -v hey >/dev/null || { echo "hey não encontrado no PATH" >&2; exit 1; }
+
+executar() {
+    local modelo=$1
+    shift
+    echo "=== $modelo ==="
+
+    local caminho=$CAMINHO
+    local base=${CAMINHO%%/\{id\}*}
+    local argumentos=()
+    if [[ "$CAMINHO" == *"{id}"* ]]; then
+        argumentos+=(--spring.cache.caffeine.spec=maximumSize=10000,expireAfterWrite=1s,recordStats)
+    fi
+
+    java "$@" -jar "$JAR" --server.port="$PORTA" --eureka.client.enabled=false "${argumentos[@]}" > "benchmark-$modelo.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -s -o /dev/null "http://localhost:$PORTA$base"; do
+        kill -0 $pid 2>/dev/null || { echo "serviço encerrou, veja benchmark-$modelo.log" >&2; exit 1; }
+        sleep 1
+    done
+
+    if [[ "$CAMINHO" == *"{id}"* ]]; then
+        local id
+        id=$(curl -s -X POST -H 'Content-Type: application/json' "http://localhost:$PORTA$base" \
+            -d '{"itens":[{"nome":"Pizza","descricao":"Grande","preco":42.00,"quantidade":1}]}' \
+            | sed -n 's/.*"id_pedido":"\([^"]*\)".*/\1/p')
+        [[ -n "$id" ]] || { echo "não foi possível criar o pedido de teste" >&2; exit 1; }
+        caminho=${CAMINHO/\{id\}/$id}
+    fi
+
+    hey -z "$AQUECIMENTO" -c 50 "http://localhost:$PORTA$caminho" > /dev/null
+    hey -z "$DURACAO" -c "$CONCORRENCIA" "http://localhost:$PORTA$caminho" \
+        | grep -E "Requests/sec|Average|Slowest|99% in|\[[0-9]{3}\]|Error"
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+    trap - EXIT
+    echo "threads virtuais bloqueadas com pinning: $(grep -c '<== monitors' "benchmark-$modelo.log" || true)"
+}
+
+executar plataforma
+executar virtuais -Djdk.tracePinnedThreads=short -Dspring.profiles.active=virtual-threads
+
+if grep -q '<== monitors' benchmark-virtuais.log; then
+    echo "pinning detectado, veja as pilhas em benchmark-virtuais.log" >&2
+    exit 1
+fi
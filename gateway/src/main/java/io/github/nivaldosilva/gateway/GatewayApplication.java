@@ -6,9 +6,11 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class GatewayApplication {
 
 	public static void main(String[] args) {
@@ -19,8 +21,8 @@ public class GatewayApplication {
 	public RouteLocator routes(RouteLocatorBuilder builder) {
 		return builder
 				.routes()
-				.route(r -> r.path("/pagamentos/**").uri("lb://ms-pagamentos"))
-				.route(r -> r.path("/pedidos/**").uri("lb://ms-pedidos"))
+				.route("pagamentos", r -> r.path("/pagamentos/**").uri("lb://ms-pagamentos"))
+				.route("pedidos", r -> r.path("/pedidos/**").uri("lb://ms-pedidos"))
 				.build();
 	}
 
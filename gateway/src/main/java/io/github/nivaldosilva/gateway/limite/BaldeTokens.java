@@ -0,0 +1,44 @@
+package io.github.nivaldosilva.gateway.limite;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Token bucket sem bloqueio: o estado é imutável e trocado por compareAndSet
+final class BaldeTokens {
+
+	private final double capacidade;
+	private final double tokensPorNano;
+	private final AtomicReference<Estado> estado;
+
+	BaldeTokens(long capacidade, double reposicaoPorSegundo, long agora) {
+		this.capacidade = capacidade;
+		this.tokensPorNano = reposicaoPorSegundo / 1_000_000_000d;
+		this.estado = new AtomicReference<>(new Estado(capacidade, agora));
+	}
+
+	// Zero quando consumiu um token; senão, os nanossegundos até o próximo ficar disponível
+	long consumir(long agora) {
+		while (true) {
+			Estado atual = estado.get();
+			double tokens = disponiveis(atual, agora);
+			if (tokens < 1) {
+				return (long) Math.ceil((1 - tokens) / tokensPorNano);
+			}
+			if (estado.compareAndSet(atual, new Estado(tokens - 1, Math.max(agora, atual.instante())))) {
+				return 0;
+			}
+		}
+	}
+
+	// Um balde cheio equivale a um novo, então pode ser descartado sem devolver tokens a ninguém
+	boolean ocioso(long agora, long ociosidadeNanos) {
+		Estado atual = estado.get();
+		return agora - atual.instante() >= ociosidadeNanos && disponiveis(atual, agora) >= capacidade;
+	}
+
+	private double disponiveis(Estado atual, long agora) {
+		return Math.min(capacidade, atual.tokens() + Math.max(0, agora - atual.instante()) * tokensPorNano);
+	}
+
+	private record Estado(double tokens, long instante) {
+	}
+}
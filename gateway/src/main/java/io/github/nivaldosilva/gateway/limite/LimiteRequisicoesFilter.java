@@ -0,0 +1,190 @@
+package io.github.nivaldosilva.gateway.limite;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// Cada requisição consome um token do balde do cliente no serviço de destino e um do balde do serviço inteiro;
+// o primeiro limita uma integração isolada, o segundo protege o serviço de todas juntas.
+// A chave é o serviço da URI da rota, não o id: a rota fixa e a do discovery locator levam ao mesmo lb://servico.
+// O cliente é o endereço de origem; o cabeçalho de identificação só vale quando vem de um proxy confiável,
+// pois qualquer um poderia trocá-lo a cada requisição e receber sempre um balde cheio.
+@Component
+public class LimiteRequisicoesFilter implements GlobalFilter, Ordered {
+
+	private final String cabecalhoCliente;
+	private final Set<String> proxiesConfiaveis;
+	private final long capacidadeCliente;
+	private final double reposicaoCliente;
+	private final int maximoBaldesClientes;
+	private final long capacidadeRota;
+	private final double reposicaoRota;
+	private final long ociosidadeNanos;
+	private final LongSupplier relogio;
+
+	private final Map<String, BaldeTokens> baldesClientes = new ConcurrentHashMap<>();
+	private final Map<String, BaldeTokens> baldesRotas = new ConcurrentHashMap<>();
+	// Clientes novos quando o mapa está cheio dividem um balde por serviço, para a memória não crescer sem limite
+	private final Map<String, BaldeTokens> baldesExcedentes = new ConcurrentHashMap<>();
+
+	// Um contador registrado por serviço e tipo de limite; a recusa só faz a busca no mapa e o increment()
+	private final Map<String, Counter> limitadosPorCliente = new ConcurrentHashMap<>();
+	private final Map<String, Counter> limitadosPorRota = new ConcurrentHashMap<>();
+
+	private final MeterRegistry registry;
+
+	@Autowired
+	public LimiteRequisicoesFilter(MeterRegistry registry,
+			@Value("${gateway.limite.cabecalho-cliente:X-Client-Id}") String cabecalhoCliente,
+			@Value("${gateway.limite.proxies-confiaveis:}") List<String> proxiesConfiaveis,
+			@Value("${gateway.limite.cliente.capacidade:50}") long capacidadeCliente,
+			@Value("${gateway.limite.cliente.reposicao-por-segundo:20}") double reposicaoCliente,
+			@Value("${gateway.limite.cliente.maximo-baldes:100000}") int maximoBaldesClientes,
+			@Value("${gateway.limite.rota.capacidade:1000}") long capacidadeRota,
+			@Value("${gateway.limite.rota.reposicao-por-segundo:500}") double reposicaoRota,
+			@Value("${gateway.limite.ociosidade:10m}") Duration ociosidade) {
+		this(registry, cabecalhoCliente, proxiesConfiaveis, capacidadeCliente, reposicaoCliente, maximoBaldesClientes,
+				capacidadeRota, reposicaoRota, ociosidade, System::nanoTime);
+	}
+
+	LimiteRequisicoesFilter(MeterRegistry registry, String cabecalhoCliente, List<String> proxiesConfiaveis,
+			long capacidadeCliente, double reposicaoCliente, int maximoBaldesClientes, long capacidadeRota,
+			double reposicaoRota, Duration ociosidade, LongSupplier relogio) {
+		this.registry = registry;
+		this.cabecalhoCliente = cabecalhoCliente;
+		this.proxiesConfiaveis = Set.copyOf(proxiesConfiaveis);
+		this.capacidadeCliente = capacidadeCliente;
+		this.reposicaoCliente = reposicaoCliente;
+		this.maximoBaldesClientes = maximoBaldesClientes;
+		this.capacidadeRota = capacidadeRota;
+		this.reposicaoRota = reposicaoRota;
+		this.ociosidadeNanos = ociosidade.toNanos();
+		this.relogio = relogio;
+		registry.gaugeMapSize("gateway.limite.baldes.clientes", Tags.empty(), baldesClientes);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		String servico = servico(exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR));
+		long agora = relogio.getAsLong();
+
+		long espera = baldeCliente(servico, cliente(exchange), agora).consumir(agora);
+		if (espera > 0) {
+			return recusar(exchange,
+					limitadosPorCliente.computeIfAbsent(servico, chave -> contador(chave, "cliente")), espera);
+		}
+
+		espera = baldesRotas
+				.computeIfAbsent(servico, chave -> new BaldeTokens(capacidadeRota, reposicaoRota, agora))
+				.consumir(agora);
+		if (espera > 0) {
+			return recusar(exchange,
+					limitadosPorRota.computeIfAbsent(servico, chave -> contador(chave, "rota")), espera);
+		}
+
+		return chain.filter(exchange);
+	}
+
+	@Scheduled(fixedDelayString = "${gateway.limite.limpeza:1m}")
+	public void removerOciosos() {
+		long agora = relogio.getAsLong();
+		baldesClientes.entrySet().removeIf(entrada -> entrada.getValue().ocioso(agora, ociosidadeNanos));
+		baldesRotas.entrySet().removeIf(entrada -> entrada.getValue().ocioso(agora, ociosidadeNanos));
+		baldesExcedentes.entrySet().removeIf(entrada -> entrada.getValue().ocioso(agora, ociosidadeNanos));
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE + 10;
+	}
+
+	private BaldeTokens baldeCliente(String servico, String cliente, long agora) {
+		String chave = servico + '|' + cliente;
+		BaldeTokens balde = baldesClientes.get(chave);
+		if (balde != null) {
+			return balde;
+		}
+		if (baldesClientes.size() >= maximoBaldesClientes) {
+			return baldesExcedentes.computeIfAbsent(servico,
+					s -> new BaldeTokens(capacidadeCliente, reposicaoCliente, agora));
+		}
+		return baldesClientes.computeIfAbsent(chave, c -> new BaldeTokens(capacidadeCliente, reposicaoCliente, agora));
+	}
+
+	// lb://ms-pedidos vira "ms-pedidos"; o Eureka devolve os ids em maiúsculas, por isso a normalização
+	static String servico(Route rota) {
+		if (rota == null) {
+			return "sem-rota";
+		}
+		URI destino = rota.getUri();
+		return destino.getHost() != null ? destino.getHost().toLowerCase(Locale.ROOT) : rota.getId();
+	}
+
+	private String cliente(ServerWebExchange exchange) {
+		InetSocketAddress origem = exchange.getRequest().getRemoteAddress();
+		if (origem == null || origem.getAddress() == null) {
+			return "desconhecido";
+		}
+		InetAddress endereco = origem.getAddress();
+		if (proxiesConfiaveis.contains(endereco.getHostAddress())) {
+			String identificador = exchange.getRequest().getHeaders().getFirst(cabecalhoCliente);
+			if (identificador != null && !identificador.isBlank()) {
+				return identificador;
+			}
+		}
+		return chaveEndereco(endereco);
+	}
+
+	// Um único cliente IPv6 costuma ter um /64 inteiro à disposição; trocar de endereço dentro dele não renova o balde
+	static String chaveEndereco(InetAddress endereco) {
+		if (endereco instanceof Inet6Address && !endereco.isLoopbackAddress()) {
+			return HexFormat.of().formatHex(endereco.getAddress(), 0, 8) + "::/64";
+		}
+		return endereco.getHostAddress();
+	}
+
+	private Counter contador(String servico, String limite) {
+		return Counter.builder("gateway.requisicoes.limitadas")
+				.description("Requisições recusadas com 429 pelo limite de taxa")
+				.tag("servico", servico)
+				.tag("limite", limite)
+				.register(registry);
+	}
+
+	private Mono<Void> recusar(ServerWebExchange exchange, Counter limitadas, long esperaNanos) {
+		limitadas.increment();
+
+		ServerHttpResponse resposta = exchange.getResponse();
+		resposta.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+		resposta.getHeaders().set(HttpHeaders.RETRY_AFTER,
+				String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + 999_999_999))));
+		return resposta.setComplete();
+	}
+}
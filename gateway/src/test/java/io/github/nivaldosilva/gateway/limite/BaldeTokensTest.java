@@ -0,0 +1,94 @@
+package io.github.nivaldosilva.gateway.limite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+// O instante é sempre explícito, então nenhum teste depende do relógio da máquina
+class BaldeTokensTest {
+
+	private static final long SEGUNDO = 1_000_000_000L;
+	private static final long INICIO = 42 * SEGUNDO;
+
+	@Test
+	void esgotadoInformaEsperaAteOProximoToken() {
+		BaldeTokens balde = new BaldeTokens(2, 4, INICIO);
+
+		assertThat(balde.consumir(INICIO)).isZero();
+		assertThat(balde.consumir(INICIO)).isZero();
+		assertThat(balde.consumir(INICIO)).isEqualTo(SEGUNDO / 4);
+		assertThat(balde.consumir(INICIO + SEGUNDO / 8)).isEqualTo(SEGUNDO / 8);
+	}
+
+	@Test
+	void reposicaoAcompanhaOTempoSemPassarDaCapacidade() {
+		BaldeTokens balde = new BaldeTokens(3, 1, INICIO);
+		for (int i = 0; i < 3; i++) {
+			assertThat(balde.consumir(INICIO)).isZero();
+		}
+
+		assertThat(balde.consumir(INICIO + SEGUNDO)).isZero();
+		assertThat(balde.consumir(INICIO + SEGUNDO)).isPositive();
+
+		// Uma hora parado devolve só a capacidade, não 3600 tokens
+		long depois = INICIO + 3600 * SEGUNDO;
+		for (int i = 0; i < 3; i++) {
+			assertThat(balde.consumir(depois)).isZero();
+		}
+		assertThat(balde.consumir(depois)).isEqualTo(SEGUNDO);
+	}
+
+	@Test
+	void consumoConcorrenteNuncaConcedeAlemDaCapacidade() throws Exception {
+		int capacidade = 1_000;
+		int threads = 8;
+		BaldeTokens balde = new BaldeTokens(capacidade, 1, INICIO);
+		CountDownLatch largada = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Integer>> concedidos = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				concedidos.add(executor.submit(() -> {
+					largada.await();
+					int concedidosNaThread = 0;
+					for (int i = 0; i < capacidade; i++) {
+						if (balde.consumir(INICIO) == 0) {
+							concedidosNaThread++;
+						}
+					}
+					return concedidosNaThread;
+				}));
+			}
+			largada.countDown();
+
+			int total = 0;
+			for (Future<Integer> concedidosNaThread : concedidos) {
+				total += concedidosNaThread.get();
+			}
+			assertThat(total).isEqualTo(capacidade);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void ociosoSoQuandoParadoECheio() {
+		long ociosidade = SEGUNDO;
+		BaldeTokens balde = new BaldeTokens(10, 1, INICIO);
+		assertThat(balde.ocioso(INICIO + ociosidade, ociosidade)).isTrue();
+
+		for (int i = 0; i < 10; i++) {
+			balde.consumir(INICIO);
+		}
+		// Parado há tempo suficiente, mas com só um token reposto: descartar zeraria a dívida do cliente
+		assertThat(balde.ocioso(INICIO + ociosidade, ociosidade)).isFalse();
+		assertThat(balde.ocioso(INICIO + 10 * SEGUNDO, ociosidade)).isTrue();
+	}
+}
@@ -0,0 +1,140 @@
+package io.github.nivaldosilva.gateway.limite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// Capacidade de 2 por cliente com reposição de 1 por segundo; o relógio só anda quando o teste manda
+class LimiteRequisicoesFilterTest {
+
+	private static final long SEGUNDO = 1_000_000_000L;
+	private static final String CABECALHO = "X-Cliente";
+	private static final String PROXY = "10.0.0.1";
+	private static final Route PEDIDOS = rota("pedidos", "lb://ms-pedidos");
+	private static final Route PEDIDOS_DESCOBERTA = rota("ReactiveCompositeDiscoveryClient_MS-PEDIDOS", "lb://MS-PEDIDOS");
+	private static final Route PAGAMENTOS = rota("pagamentos", "lb://ms-pagamentos");
+	private static final GatewayFilterChain CADEIA = exchange -> Mono.empty();
+
+	private final AtomicLong relogio = new AtomicLong(7 * SEGUNDO);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final LimiteRequisicoesFilter filtro = new LimiteRequisicoesFilter(registry, CABECALHO, List.of(PROXY),
+			2, 1, 1_000, 1_000, 1_000, Duration.ofMinutes(10), relogio::get);
+
+	@Test
+	void clienteEsgotadoRecebe429ComRetryAfter() {
+		assertThat(enviar(PEDIDOS, "192.168.0.10", null)).isNull();
+		assertThat(enviar(PEDIDOS, "192.168.0.10", null)).isNull();
+
+		MockServerWebExchange recusada = exchange(PEDIDOS, "192.168.0.10", null);
+		filtro.filter(recusada, CADEIA).block();
+		assertThat(recusada.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(recusada.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(registry.get("gateway.requisicoes.limitadas").tag("servico", "ms-pedidos").tag("limite", "cliente")
+				.counter().count()).isEqualTo(1);
+
+		relogio.addAndGet(SEGUNDO);
+		assertThat(enviar(PEDIDOS, "192.168.0.10", null)).isNull();
+	}
+
+	@Test
+	void rotaDoDiscoveryLocatorDivideOBaldeDoServico() {
+		enviar(PEDIDOS, "192.168.0.10", null);
+		enviar(PEDIDOS_DESCOBERTA, "192.168.0.10", null);
+
+		assertThat(enviar(PEDIDOS_DESCOBERTA, "192.168.0.10", null)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(enviar(PAGAMENTOS, "192.168.0.10", null)).isNull();
+	}
+
+	@Test
+	void enderecosIpv6DoMesmo64DividemOBalde() {
+		enviar(PEDIDOS, "2001:db8:1:2::1", null);
+		enviar(PEDIDOS, "2001:db8:1:2:ffff::7", null);
+
+		assertThat(enviar(PEDIDOS, "2001:db8:1:2:abcd:ef01:2345:6789", null)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(enviar(PEDIDOS, "2001:db8:1:3::1", null)).isNull();
+	}
+
+	@Test
+	void chaveEnderecoAgrupaIpv6PorPrefixoEPreservaIpv4ELoopback() throws UnknownHostException {
+		assertThat(LimiteRequisicoesFilter.chaveEndereco(InetAddress.getByName("2001:db8:1:2:abcd::1")))
+				.isEqualTo("20010db800010002::/64");
+		assertThat(LimiteRequisicoesFilter.chaveEndereco(InetAddress.getByName("192.168.0.10")))
+				.isEqualTo("192.168.0.10");
+		assertThat(LimiteRequisicoesFilter.chaveEndereco(InetAddress.getByName("::1")))
+				.isEqualTo("0:0:0:0:0:0:0:1");
+	}
+
+	@Test
+	void cabecalhoSoIdentificaOClienteQuandoVemDeProxyConfiavel() {
+		// Fora do proxy, trocar o cabeçalho a cada chamada não escapa do balde do endereço
+		enviar(PEDIDOS, "192.168.0.10", "a");
+		enviar(PEDIDOS, "192.168.0.10", "b");
+		assertThat(enviar(PEDIDOS, "192.168.0.10", "c")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+		// Atrás do proxy, cada integração tem o próprio balde
+		enviar(PEDIDOS, PROXY, "a");
+		enviar(PEDIDOS, PROXY, "a");
+		assertThat(enviar(PEDIDOS, PROXY, "a")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(enviar(PEDIDOS, PROXY, "b")).isNull();
+
+		// Sem cabeçalho, o proxy cai no balde do próprio endereço
+		assertThat(enviar(PEDIDOS, PROXY, null)).isNull();
+	}
+
+	@Test
+	void removerOciososRespeitaAOciosidade() {
+		enviar(PEDIDOS, "192.168.0.10", null);
+		enviar(PEDIDOS, "192.168.0.10", null);
+		relogio.addAndGet(SEGUNDO);
+		enviar(PEDIDOS, "192.168.0.11", null);
+
+		relogio.addAndGet(Duration.ofMinutes(10).toNanos());
+		filtro.removerOciosos();
+		assertThat(baldesClientes()).isZero();
+
+		enviar(PEDIDOS, "192.168.0.10", null);
+		relogio.addAndGet(Duration.ofMinutes(10).toNanos() - 1);
+		filtro.removerOciosos();
+		assertThat(baldesClientes()).as("ainda dentro da ociosidade").isEqualTo(1);
+	}
+
+	private double baldesClientes() {
+		return registry.get("gateway.limite.baldes.clientes").gauge().value();
+	}
+
+	private HttpStatus enviar(Route rota, String origem, String cliente) {
+		MockServerWebExchange exchange = exchange(rota, origem, cliente);
+		filtro.filter(exchange, CADEIA).block();
+		return (HttpStatus) exchange.getResponse().getStatusCode();
+	}
+
+	private static MockServerWebExchange exchange(Route rota, String origem, String cliente) {
+		MockServerHttpRequest.BaseBuilder<?> requisicao = MockServerHttpRequest.get("/" + rota.getId() + "/1")
+				.remoteAddress(new InetSocketAddress(origem, 40_000));
+		if (cliente != null) {
+			requisicao.header(CABECALHO, cliente);
+		}
+		MockServerWebExchange exchange = MockServerWebExchange.from(requisicao);
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, rota);
+		return exchange;
+	}
+
+	private static Route rota(String id, String destino) {
+		return Route.async().id(id).uri(destino).predicate(exchange -> true).build();
+	}
+}
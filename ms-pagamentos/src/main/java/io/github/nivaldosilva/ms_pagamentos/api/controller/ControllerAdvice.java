@@ -4,6 +4,7 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -77,6 +78,19 @@ public class ControllerAdvice extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> tratarErroAtualizacaoConcorrente(OptimisticLockingFailureException ex,
+            WebRequest request) {
+        log.warn("Erro 409: Pagamento alterado por outra requisição", ex);
+        ProblemDetail problemDetail = construirProblemDetailPadrao(
+                HttpStatus.CONFLICT,
+                "Conflito de Atualização",
+                "O pagamento foi alterado por outra requisição. Consulte o pagamento e tente novamente.",
+                "/errors/conflict",
+                request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             @NonNull MethodArgumentNotValidException ex,
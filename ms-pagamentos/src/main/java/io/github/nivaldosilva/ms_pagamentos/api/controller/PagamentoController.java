@@ -23,7 +23,6 @@ import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoRequest;
 import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoResponse;
 import io.github.nivaldosilva.ms_pagamentos.service.PagamentoService;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -65,14 +64,16 @@ public class PagamentoController implements PagamentoOpenApi {
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<PagamentoResponse> buscar(@PathVariable UUID id) {
-        return ResponseEntity.ok(service.buscarPorId(id));
+        PagamentoResponse pagamento = service.buscarPorId(id);
+        // Com If-None-Match igual à versão atual, o Spring responde 304 sem serializar o corpo
+        return ResponseEntity.ok().eTag(String.valueOf(pagamento.getVersao())).body(pagamento);
     }
 
     @Override
     @PutMapping("/{id}")
     public ResponseEntity<PagamentoResponse> atualizar(
             @PathVariable UUID id,
-            @RequestBody PagamentoRequest request) {
+            @RequestBody @Valid PagamentoRequest request) {
         return ResponseEntity.ok(service.atualizarPagamento(id, request));
     }
 
@@ -85,7 +86,7 @@ public class PagamentoController implements PagamentoOpenApi {
 
     @Override
     @PatchMapping("/{id}/confirmar")
-    public ResponseEntity<Void> confirmarPagamento(@PathVariable @NotNull UUID id) {
+    public ResponseEntity<Void> confirmarPagamento(@PathVariable UUID id) {
         service.confirmarPagamento(id);
         return ResponseEntity.noContent().build();
     }
@@ -15,7 +15,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
 
 @Tag(name = "Pagamentos", description = "API de gerenciamento para pagamentos")
 public interface PagamentoOpenApi {
@@ -36,10 +35,11 @@ public interface PagamentoOpenApi {
         @Operation(summary = "Buscar pagamento por ID", description = "Busca um pagamento específico utilizando seu identificador único")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Pagamento encontrado", content = @Content(schema = @Schema(implementation = PagamentoResponse.class))),
+                        @ApiResponse(responseCode = "304", description = "Pagamento não alterado desde o ETag enviado em If-None-Match"),
                         @ApiResponse(responseCode = "404", description = "Pagamento não encontrado com o ID fornecido", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         ResponseEntity<PagamentoResponse> buscar(
-                        @Parameter(description = "ID único do pagamento", required = true) @NotNull UUID id);
+                        @Parameter(description = "ID único do pagamento", required = true) UUID id);
 
         @Operation(summary = "Atualizar pagamento", description = "Atualiza os dados de um pagamento existente")
         @ApiResponses({
@@ -48,7 +48,7 @@ public interface PagamentoOpenApi {
                         @ApiResponse(responseCode = "404", description = "Pagamento não encontrado", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         ResponseEntity<PagamentoResponse> atualizar(
-                        @Parameter(description = "ID único do pagamento", required = true) @NotNull UUID id,
+                        @Parameter(description = "ID único do pagamento", required = true) UUID id,
                         @Valid PagamentoRequest request);
 
 
@@ -59,7 +59,7 @@ public interface PagamentoOpenApi {
                         @ApiResponse(responseCode = "404", description = "Pagamento não encontrado", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         ResponseEntity<Void> confirmarPagamento(
-                        @Parameter(description = "ID único do pagamento", required = true) @NotNull UUID id);
+                        @Parameter(description = "ID único do pagamento", required = true) UUID id);
 
 
                         
@@ -70,7 +70,7 @@ public interface PagamentoOpenApi {
                         @ApiResponse(responseCode = "404", description = "Pagamento não encontrado", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         ResponseEntity<Void> remover(
-                        @Parameter(description = "ID único do pagamento", required = true) @NotNull UUID id);
+                        @Parameter(description = "ID único do pagamento", required = true) UUID id);
 
 
 }
\ No newline at end of file
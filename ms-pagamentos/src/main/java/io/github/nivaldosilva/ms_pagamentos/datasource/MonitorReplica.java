@@ -0,0 +1,66 @@
+package io.github.nivaldosilva.ms_pagamentos.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+@Slf4j
+public class MonitorReplica {
+
+    private final DataSource replica;
+    private final Duration atrasoMaximo;
+    private final boolean exigirReplicacao;
+    private volatile boolean disponivel;
+    private boolean verificada;
+
+    public MonitorReplica(DataSource replica, Duration atrasoMaximo, boolean exigirReplicacao) {
+        this.replica = replica;
+        this.atrasoMaximo = atrasoMaximo;
+        this.exigirReplicacao = exigirReplicacao;
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    @Scheduled(fixedDelayString = "${pagamentos.replica.intervalo-verificacao:5s}")
+    public void verificar() {
+        try (Connection conexao = replica.getConnection();
+                Statement statement = conexao.createStatement();
+                ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                // Replicação desfeita ou URL apontando para outra instância: só é usada se explicitamente permitido
+                atualizar(!exigirReplicacao, "sem replicação configurada");
+                return;
+            }
+
+            long atraso = status.getLong("Seconds_Behind_Source");
+            if (status.wasNull()) {
+                atualizar(false, "replicação parada");
+            } else if (atraso > atrasoMaximo.toSeconds()) {
+                atualizar(false, "atraso de " + atraso + "s acima do limite de " + atrasoMaximo.toSeconds() + "s");
+            } else {
+                atualizar(true, "atraso de " + atraso + "s");
+            }
+        } catch (SQLException e) {
+            atualizar(false, e.getMessage());
+        }
+    }
+
+    private void atualizar(boolean disponivelAgora, String motivo) {
+        if (!verificada || disponivelAgora != disponivel) {
+            if (disponivelAgora) {
+                log.info("Réplica disponível para leituras ({})", motivo);
+            } else {
+                log.warn("Réplica indisponível, leituras redirecionadas ao primário ({})", motivo);
+            }
+        }
+        disponivel = disponivelAgora;
+        verificada = true;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.nivaldosilva.ms_pagamentos.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Precisa ficar atrás de um LazyConnectionDataSourceProxy: a conexão só é obtida depois que a transação marcou readOnly
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino {
+        PRIMARIO,
+        REPLICA
+    }
+
+    private final MonitorReplica monitorReplica;
+
+    public RoteamentoDataSource(MonitorReplica monitorReplica) {
+        this.monitorReplica = monitorReplica;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && monitorReplica.isDisponivel()) {
+            return Destino.REPLICA;
+        }
+        return Destino.PRIMARIO;
+    }
+}
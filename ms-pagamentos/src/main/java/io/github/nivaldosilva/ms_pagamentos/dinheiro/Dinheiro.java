@@ -0,0 +1,56 @@
+package io.github.nivaldosilva.ms_pagamentos.dinheiro;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Valor em centavos; BigDecimal só aparece na fronteira com o banco (DECIMAL(10,2)) e com o JSON
+public record Dinheiro(long centavos) implements Comparable<Dinheiro> {
+
+    public static final Dinheiro ZERO = new Dinheiro(0);
+
+    public static Dinheiro deCentavos(long centavos) {
+        return centavos == 0 ? ZERO : new Dinheiro(centavos);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Dinheiro de(BigDecimal valor) {
+        return deCentavos(valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public Dinheiro mais(Dinheiro outro) {
+        return deCentavos(Math.addExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro menos(Dinheiro outro) {
+        return deCentavos(Math.subtractExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro vezes(int quantidade) {
+        return deCentavos(Math.multiplyExact(centavos, quantidade));
+    }
+
+    public Dinheiro negativo() {
+        return deCentavos(Math.negateExact(centavos));
+    }
+
+    public boolean isZero() {
+        return centavos == 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    @Override
+    public int compareTo(Dinheiro outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
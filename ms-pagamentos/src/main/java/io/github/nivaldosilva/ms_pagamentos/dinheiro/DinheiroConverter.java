@@ -0,0 +1,19 @@
+package io.github.nivaldosilva.ms_pagamentos.dinheiro;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+@Converter(autoApply = true)
+public class DinheiroConverter implements AttributeConverter<Dinheiro, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Dinheiro valor) {
+        return valor == null ? null : valor.toBigDecimal();
+    }
+
+    @Override
+    public Dinheiro convertToEntityAttribute(BigDecimal valor) {
+        return valor == null ? null : Dinheiro.de(valor);
+    }
+}
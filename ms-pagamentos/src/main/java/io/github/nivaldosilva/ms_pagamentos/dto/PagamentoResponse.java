@@ -2,6 +2,7 @@ package io.github.nivaldosilva.ms_pagamentos.dto;
 
 import java.math.BigDecimal;
 import java.util.UUID;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.nivaldosilva.ms_pagamentos.enums.FormaPagamento;
@@ -51,4 +52,8 @@ public class PagamentoResponse {
     @JsonProperty("forma_pagamento")
     @Schema(description = "Forma de pagamento", example = "CREDITO")
     private FormaPagamento formaPagamento;
+
+    // Fica fora do JSON; vai no cabeçalho ETag
+    @JsonIgnore
+    private Long versao;
 }
\ No newline at end of file
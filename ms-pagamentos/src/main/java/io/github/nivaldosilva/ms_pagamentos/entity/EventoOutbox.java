@@ -0,0 +1,58 @@
+package io.github.nivaldosilva.ms_pagamentos.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.domain.Persistable;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "outbox_eventos")
+@Data
+@EqualsAndHashCode(exclude = "novo")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoOutbox implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "id_evento", updatable = false, nullable = false)
+    private UUID idEvento;
+
+    @Column(name = "tipo", nullable = false, length = 50)
+    private String tipo;
+
+    @Column(name = "id_pagamento", nullable = false)
+    private UUID idPagamento;
+
+    @Column(name = "chave_roteamento", nullable = false, length = 100)
+    private String chaveRoteamento;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private Instant dataCriacao;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean novo = true;
+
+    @Override
+    public UUID getId() {
+        return this.idEvento;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+}
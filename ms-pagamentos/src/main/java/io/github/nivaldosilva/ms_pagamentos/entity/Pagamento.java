@@ -1,10 +1,10 @@
 package io.github.nivaldosilva.ms_pagamentos.entity;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 import org.hibernate.annotations.CreationTimestamp;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.github.nivaldosilva.ms_pagamentos.dinheiro.Dinheiro;
 import io.github.nivaldosilva.ms_pagamentos.enums.FormaPagamento;
 import io.github.nivaldosilva.ms_pagamentos.enums.StatusPagamento;
 import jakarta.persistence.Column;
@@ -15,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -37,7 +38,7 @@ public class Pagamento {
     private UUID idPedido;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal valor;
+    private Dinheiro valor;
 
     @Column(name = "nome_titular", nullable = false, length = 100)
     private String nomeTitular;
@@ -64,4 +65,8 @@ public class Pagamento {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private Instant dataPagamento;
 
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.nivaldosilva.ms_pagamentos.event;
+
+import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoResponse;
+
+// Publicado dentro da transação de confirmação; só chega ao ms-pedidos depois do commit
+public record PagamentoConfirmadoEvent(PagamentoResponse pagamento) {
+}
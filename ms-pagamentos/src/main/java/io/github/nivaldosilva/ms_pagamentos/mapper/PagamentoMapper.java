@@ -1,5 +1,6 @@
 package io.github.nivaldosilva.ms_pagamentos.mapper;
 
+import io.github.nivaldosilva.ms_pagamentos.dinheiro.Dinheiro;
 import io.github.nivaldosilva.ms_pagamentos.entity.Pagamento;
 import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoRequest;
 import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoResponse;
@@ -11,7 +12,7 @@ public class PagamentoMapper {
     public static Pagamento toEntity(PagamentoRequest request) {
         return Pagamento.builder()
                 .idPedido(request.getIdPedido())
-                .valor(request.getValor())
+                .valor(Dinheiro.de(request.getValor()))
                 .nomeTitular(request.getNomeTitular())
                 .numeroCartao(request.getNumeroCartao())
                 .validadeCartao(request.getValidadeCartao())
@@ -24,9 +25,10 @@ public class PagamentoMapper {
         return PagamentoResponse.builder()
                 .idPagamento(pagamento.getIdPagamento())
                 .idPedido(pagamento.getIdPedido())
-                .valor(pagamento.getValor())
+                .valor(pagamento.getValor().toBigDecimal())
                 .nomeTitular(pagamento.getNomeTitular())
                 .numeroMascarado(mascaraNumero(pagamento.getNumeroCartao()))
+                .versao(pagamento.getVersao())
                 .validadeCartao(pagamento.getValidadeCartao())
                 .statusPagamento(pagamento.getStatusPagamento())
                 .formaPagamento(pagamento.getFormaPagamento())
@@ -0,0 +1,37 @@
+package io.github.nivaldosilva.ms_pagamentos.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nivaldosilva.ms_pagamentos.entity.EventoOutbox;
+import io.github.nivaldosilva.ms_pagamentos.event.PagamentoConfirmadoEvent;
+import io.github.nivaldosilva.ms_pagamentos.rabbitmq.RabbitMQConfig;
+import io.github.nivaldosilva.ms_pagamentos.repository.EventoOutboxRepository;
+import io.github.nivaldosilva.ms_pagamentos.util.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Instant;
+
+// Grava na mesma transação da confirmação; o RelayOutbox publica depois do commit
+@Component
+@RequiredArgsConstructor
+public class GravadorOutbox {
+
+    public static final String TIPO_PAGAMENTO_CONFIRMADO = "PagamentoConfirmado";
+
+    private final EventoOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void aoConfirmarPagamento(PagamentoConfirmadoEvent evento) throws JsonProcessingException {
+        repository.save(EventoOutbox.builder()
+                .idEvento(UuidV7.gerar())
+                .tipo(TIPO_PAGAMENTO_CONFIRMADO)
+                .idPagamento(evento.pagamento().getIdPagamento())
+                .chaveRoteamento(RabbitMQConfig.QUEUE_NAME)
+                .payload(objectMapper.writeValueAsString(evento.pagamento()))
+                .dataCriacao(Instant.now())
+                .build());
+    }
+}
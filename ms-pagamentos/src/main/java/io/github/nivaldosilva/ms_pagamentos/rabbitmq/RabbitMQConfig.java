@@ -1,7 +1,6 @@
 package io.github.nivaldosilva.ms_pagamentos.rabbitmq;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -19,10 +18,11 @@ public class RabbitMQConfig {
 
     public static final String QUEUE_NAME = "pagamento.concluido";
 
+    // Durável: uma confirmação aceita pelo broker sobrevive a um reinício dele
     @Bean
     public Queue filaPagamentoConcluido() {
         return QueueBuilder
-            .nonDurable(QUEUE_NAME)
+            .durable(QUEUE_NAME)
             .build();
     }
 
@@ -37,10 +37,8 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return new Jackson2JsonMessageConverter(mapper);
+    public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
     }
 
     @Bean
@@ -2,15 +2,17 @@ package io.github.nivaldosilva.ms_pagamentos.service.impl;
 
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import io.github.nivaldosilva.ms_pagamentos.client.PedidoClient;
+import io.github.nivaldosilva.ms_pagamentos.dinheiro.Dinheiro;
 import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoRequest;
 import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoResponse;
 import io.github.nivaldosilva.ms_pagamentos.entity.Pagamento;
 import io.github.nivaldosilva.ms_pagamentos.enums.StatusPagamento;
+import io.github.nivaldosilva.ms_pagamentos.event.PagamentoConfirmadoEvent;
 import io.github.nivaldosilva.ms_pagamentos.exceptions.PagamentoDuplicadoException;
 import io.github.nivaldosilva.ms_pagamentos.exceptions.PagamentoNotFoundException;
 import io.github.nivaldosilva.ms_pagamentos.mapper.PagamentoMapper;
@@ -19,7 +21,6 @@ import io.github.nivaldosilva.ms_pagamentos.service.PagamentoService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import feign.FeignException;
 
 @Slf4j
 @Service
@@ -27,7 +28,7 @@ import feign.FeignException;
 public class PagamentoServiceImpl implements PagamentoService {
 
     private final PagamentoRepository repository;
-    private final PedidoClient pedidoClient;
+    private final ApplicationEventPublisher eventos;
 
     @Override
     @Transactional
@@ -95,7 +96,7 @@ public class PagamentoServiceImpl implements PagamentoService {
                 });
 
         pagamentoExistente.setIdPedido(request.getIdPedido());
-        pagamentoExistente.setValor(request.getValor());
+        pagamentoExistente.setValor(Dinheiro.de(request.getValor()));
         pagamentoExistente.setNomeTitular(request.getNomeTitular());
         pagamentoExistente.setNumeroCartao(request.getNumeroCartao());
         pagamentoExistente.setValidadeCartao(request.getValidadeCartao());
@@ -135,19 +136,8 @@ public class PagamentoServiceImpl implements PagamentoService {
 
         pagamento.setStatusPagamento(StatusPagamento.CONFIRMADO);
         repository.save(pagamento);
-        log.info("Pagamento confirmado. Notificando ms-pedidos...");
-
-        try {
-            pedidoClient.atualizaPagamento(pagamento.getIdPedido());
-            log.info("Pedido {} atualizado com sucesso", pagamento.getIdPedido());
-        } catch (FeignException e) {
-            log.error("Erro ao notificar ms-pedidos. Status: {} | Response: {}",
-                    e.status(), e.contentUTF8());
-
-            pagamento.setStatusPagamento(StatusPagamento.AGUARDANDO_CONFIRMACAO);
-            repository.save(pagamento);
-            throw new RuntimeException("Falha ao atualizar pedido: " + e.contentUTF8(), e);
-        }
+        eventos.publishEvent(new PagamentoConfirmadoEvent(PagamentoMapper.toResponse(pagamento)));
+        log.info("Pagamento confirmado. ms-pedidos será notificado após o commit");
     }
 
     public void alteraStatus(UUID id) {
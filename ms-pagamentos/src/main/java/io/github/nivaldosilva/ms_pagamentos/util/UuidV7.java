@@ -0,0 +1,25 @@
+package io.github.nivaldosilva.ms_pagamentos.util;
+
+import lombok.experimental.UtilityClass;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@UtilityClass
+public class UuidV7 {
+
+    private static final AtomicLong ULTIMA_MARCA = new AtomicLong();
+
+    // 48 bits de epoch em ms + 12 bits de sequência monotônica, seguidos de 62 bits aleatórios (RFC 9562).
+    public static UUID gerar() {
+        long marca = proximaMarca();
+        long maisSignificativos = ((marca >>> 12) << 16) | 0x7000L | (marca & 0xFFFL);
+        long menosSignificativos = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+
+    private static long proximaMarca() {
+        long agora = System.currentTimeMillis() << 12;
+        return ULTIMA_MARCA.updateAndGet(anterior -> Math.max(anterior + 1, agora));
+    }
+}
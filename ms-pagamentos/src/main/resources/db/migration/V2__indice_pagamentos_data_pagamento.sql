@@ -0,0 +1 @@
+CREATE INDEX idx_pagamentos_data_pagamento ON pagamentos (data_pagamento, id_pagamento);
@@ -0,0 +1,2 @@
+ALTER TABLE pagamentos
+  ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,172 @@
+package io.github.nivaldosilva.ms_pagamentos.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nivaldosilva.ms_pagamentos.client.PedidoClient;
+import io.github.nivaldosilva.ms_pagamentos.dto.PagamentoRequest;
+import io.github.nivaldosilva.ms_pagamentos.entity.Pagamento;
+import io.github.nivaldosilva.ms_pagamentos.enums.FormaPagamento;
+import io.github.nivaldosilva.ms_pagamentos.enums.StatusPagamento;
+import io.github.nivaldosilva.ms_pagamentos.mapper.PagamentoMapper;
+import io.github.nivaldosilva.ms_pagamentos.repository.PagamentoRepository;
+import io.github.nivaldosilva.ms_pagamentos.support.ConsultasRegistradas;
+import io.github.nivaldosilva.ms_pagamentos.support.ProxyDataSourceConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Limita a quantidade de comandos SQL e de entidades carregadas por requisição, para que um N+1 falhe o build
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@Import(ProxyDataSourceConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ConsultasPorRequisicaoTest {
+
+    private static final int QUANTIDADE_PAGAMENTOS = 300;
+    private static final int TAMANHO_PAGINA = 100;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    private static final List<UUID> PAGAMENTOS = new ArrayList<>();
+
+    @MockitoBean
+    private PedidoClient pedidoClient;
+
+    @MockitoBean
+    private RabbitTemplate rabbitTemplate;
+
+    @MockitoBean
+    private RabbitAdmin rabbitAdmin;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PagamentoRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConsultasRegistradas consultas;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void popularUmaVez() {
+        if (PAGAMENTOS.isEmpty()) {
+            List<Pagamento> pagamentos = IntStream.range(0, QUANTIDADE_PAGAMENTOS)
+                    .mapToObj(i -> novoPagamento())
+                    .toList();
+            repository.saveAll(pagamentos).forEach(pagamento -> PAGAMENTOS.add(pagamento.getIdPagamento()));
+        }
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void cadastrar() throws Exception {
+        assertConsultas(post("/pagamentos").contentType(MediaType.APPLICATION_JSON).content(json(pagamento())), 2, 0);
+    }
+
+    @Test
+    void listar() throws Exception {
+        assertConsultas(get("/pagamentos").param("size", String.valueOf(TAMANHO_PAGINA)), 2, TAMANHO_PAGINA);
+        assertConsultas(get("/pagamentos").param("size", String.valueOf(TAMANHO_PAGINA)).param("page", "2"),
+                2, TAMANHO_PAGINA);
+    }
+
+    @Test
+    void buscar() throws Exception {
+        assertConsultas(get("/pagamentos/{id}", PAGAMENTOS.get(0)), 1, 1);
+    }
+
+    @Test
+    void atualizar() throws Exception {
+        UUID id = repository.save(novoPagamento()).getIdPagamento();
+        PagamentoRequest alterado = pagamento();
+        alterado.setValor(new BigDecimal("75.00"));
+        assertConsultas(put("/pagamentos/{id}", id).contentType(MediaType.APPLICATION_JSON).content(json(alterado)), 2, 1);
+    }
+
+    @Test
+    void remover() throws Exception {
+        UUID id = repository.save(novoPagamento()).getIdPagamento();
+        assertConsultas(delete("/pagamentos/{id}", id), 3, 1);
+    }
+
+    @Test
+    void confirmarPagamento() throws Exception {
+        UUID id = repository.save(novoPagamento()).getIdPagamento();
+        assertConsultas(patch("/pagamentos/{id}/confirmar", id), 2, 1);
+    }
+
+    private void assertConsultas(RequestBuilder requisicao, int maximoComandos, long maximoEntidades)
+            throws Exception {
+        consultas.limpar();
+        estatisticas.clear();
+
+        int status = mockMvc.perform(requisicao).andReturn().getResponse().getStatus();
+
+        assertThat(status).as("status HTTP").isBetween(200, 299);
+        assertThat(consultas.consultas()).as("comandos SQL executados").hasSizeLessThanOrEqualTo(maximoComandos);
+        assertThat(estatisticas.getEntityLoadCount()).as("entidades carregadas").isLessThanOrEqualTo(maximoEntidades);
+    }
+
+    private String json(Object corpo) throws Exception {
+        return objectMapper.writeValueAsString(corpo);
+    }
+
+    private static Pagamento novoPagamento() {
+        Pagamento pagamento = PagamentoMapper.toEntity(pagamento());
+        pagamento.setStatusPagamento(StatusPagamento.AGUARDANDO_CONFIRMACAO);
+        return pagamento;
+    }
+
+    private static PagamentoRequest pagamento() {
+        return PagamentoRequest.builder()
+                .idPedido(UUID.randomUUID())
+                .valor(new BigDecimal("50.00"))
+                .nomeTitular("Nivaldo Silva")
+                .numeroCartao("1234567890123456")
+                .validadeCartao("12/2030")
+                .codigoSeguranca("123")
+                .formaPagamento(FormaPagamento.CREDITO)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.nivaldosilva.ms_pagamentos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nivaldosilva.ms_pagamentos.support.ConsultasRegistradas;
+import io.github.nivaldosilva.ms_pagamentos.support.PlanoExecucao;
+import io.github.nivaldosilva.ms_pagamentos.support.ProxyDataSourceConfiguration;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Falha quando uma consulta de repositório passa a ler a tabela inteira (type = ALL no EXPLAIN)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true"
+})
+@Import(ProxyDataSourceConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PlanoConsultasRepositoryTest {
+
+    private static final int QUANTIDADE_PAGAMENTOS = 20_000;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    private static final List<UUID> PAGAMENTOS = new ArrayList<>();
+    private static final List<UUID> PEDIDOS = new ArrayList<>();
+
+    @MockitoBean
+    private RabbitAdmin rabbitAdmin;
+
+    @Autowired
+    private PagamentoRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConsultasRegistradas consultas;
+
+    @BeforeEach
+    void popularUmaVez() {
+        if (PAGAMENTOS.isEmpty()) {
+            popular();
+        }
+        consultas.limpar();
+    }
+
+    @Test
+    void buscaPorIdUsaChavePrimaria() throws Exception {
+        repository.findById(PAGAMENTOS.get(100));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void verificacaoDeDuplicidadeUsaIndiceUnicoDoPedido() throws Exception {
+        repository.existsByIdPedido(PEDIDOS.get(100));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void listagemOrdenadaPorDataUsaIndiceDeDataPagamento() throws Exception {
+        repository.findAll(PageRequest.of(0, 10, Sort.by("dataPagamento")));
+        repository.findAll(PageRequest.of(5, 10, Sort.by("dataPagamento")));
+        assertSemVarreduraCompleta();
+    }
+
+    private void assertSemVarreduraCompleta() throws Exception {
+        List<String> varreduras = PlanoExecucao.varredurasCompletas(dataSource, consultas.consultas());
+        assertThat(varreduras).as("consultas com varredura completa").isEmpty();
+    }
+
+    private void popular() {
+        Instant agora = Instant.now();
+        String[] status = { "AGUARDANDO_CONFIRMACAO", "CONFIRMADO", "RECUSADO", "CANCELADO" };
+        List<Object[]> pagamentos = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE_PAGAMENTOS; i++) {
+            UUID idPagamento = UUID.randomUUID();
+            UUID idPedido = UUID.randomUUID();
+            PAGAMENTOS.add(idPagamento);
+            PEDIDOS.add(idPedido);
+            pagamentos.add(new Object[] { bytes(idPagamento), bytes(idPedido), i % 2 == 0 ? "DEBITO" : "CREDITO",
+                    status[i % status.length], Timestamp.from(agora.minus(Duration.ofMinutes(i))) });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO pagamentos (id_pagamento, id_pedido, valor, nome_titular, numero_cartao, validade_cartao,
+                                        codigo_seguranca, forma_pagamento, status_pagamento, data_pagamento)
+                VALUES (?, ?, 50.00, 'Maria Silva', '4111111111111111', '12/2030', '123', ?, ?, ?)""", pagamentos);
+
+        jdbcTemplate.execute("ANALYZE TABLE pagamentos");
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
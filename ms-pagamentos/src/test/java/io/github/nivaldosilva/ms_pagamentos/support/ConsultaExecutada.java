@@ -0,0 +1,7 @@
+package io.github.nivaldosilva.ms_pagamentos.support;
+
+import java.util.List;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+public record ConsultaExecutada(String sql, List<ParameterSetOperation> parametros) {
+}
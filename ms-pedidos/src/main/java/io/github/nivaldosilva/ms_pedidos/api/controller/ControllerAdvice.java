@@ -1,10 +1,13 @@
 package io.github.nivaldosilva.ms_pedidos.api.controller;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import io.github.nivaldosilva.ms_pedidos.exception.BusinessException;
 import io.github.nivaldosilva.ms_pedidos.exception.ResourceNotFoundException;
 import java.time.Instant;
@@ -33,6 +36,16 @@ public class ControllerAdvice {
         return problemDetail;
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "O pedido foi alterado por outra requisição. Consulte o pedido e tente novamente.");
+        problemDetail.setTitle("Conflito de Atualização");
+        problemDetail.setType(java.net.URI.create("/problems/conflict"));
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -49,6 +62,15 @@ public class ControllerAdvice {
         return problemDetail;
     }
 
+    @ExceptionHandler({ MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class })
+    public ProblemDetail handleInvalidRequestParameter(Exception ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Parâmetro Inválido");
+        problemDetail.setType(java.net.URI.create("/problems/validation-error"));
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleGenericException(Exception ex) {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR,
@@ -1,9 +1,19 @@
 package io.github.nivaldosilva.ms_pedidos.api.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,15 +23,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 import io.github.nivaldosilva.ms_pedidos.api.openapi.PedidoOpenApi;
 import io.github.nivaldosilva.ms_pedidos.dto.AtualizacaoStatus;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PainelPedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoPagina;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.painel.PainelPedidos;
 import io.github.nivaldosilva.ms_pedidos.service.PedidoService;
+import io.github.nivaldosilva.ms_pedidos.sse.EmissoresStatusPedido;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +56,9 @@ import lombok.RequiredArgsConstructor;
 public class PedidoController implements PedidoOpenApi {
 
     private final PedidoService service;
+    private final ObjectMapper objectMapper;
+    private final EmissoresStatusPedido emissores;
+    private final PainelPedidos painel;
 
     @Override
     @PostMapping
@@ -45,16 +72,87 @@ public class PedidoController implements PedidoOpenApi {
         return ResponseEntity.created(location).body(pedidoCriado);
     }
 
+    @Override
+    @PostMapping("/lote")
+    public ResponseEntity<LotePedidosResponse> importarLote(@RequestBody @Valid LotePedidosRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.importarLote(request.getPedidos()));
+    }
+
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<PedidoResponse> obterPorId(@PathVariable UUID id) {
-        return ResponseEntity.ok(service.obterPorId(id));
+    public ResponseEntity<PedidoResponse> obterPorId(@PathVariable UUID id, WebRequest request) {
+        // Revalidação: compara só a versão, sem carregar os itens nem mapear e serializar o pedido
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Long versao = service.obterVersao(id);
+            if (versao != null && request.checkNotModified(String.valueOf(versao))) {
+                return null;
+            }
+        }
+
+        PedidoResponse pedido = service.obterPorId(id);
+        if (pedido.getVersao() == null) {
+            return ResponseEntity.ok(pedido);
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(pedido.getVersao())).body(pedido);
+    }
+
+    @Override
+    @GetMapping(path = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharPedido(@PathVariable UUID id) {
+        return emissores.assinarPedido(id, () -> {
+            PedidoResumo pedido = service.obterResumo(id);
+            return new StatusPedidoAlteradoEvent(id, null, StatusPedido.valueOf(pedido.getStatus().getCodigo()),
+                    null, pedido.getDataPedido(), Instant.now());
+        });
+    }
+
+    @Override
+    @GetMapping(path = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharPedidos() {
+        return emissores.assinarLoja();
+    }
+
+    @Override
+    @GetMapping("/painel")
+    public ResponseEntity<PainelPedidosResponse> obterPainel() {
+        return ResponseEntity.ok(painel.obterPainel());
     }
 
     @Override
-    @GetMapping
-    public ResponseEntity<List<PedidoResumo>> listarTodos() {
-        return ResponseEntity.ok(service.listarTodos());
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PedidoPagina> listarTodos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limite) {
+        return ResponseEntity.ok(service.listarTodos(cursor, limite));
+    }
+
+    @Override
+    @GetMapping("/busca")
+    public ResponseEntity<List<PedidoResumo>> buscarPorItens(@RequestParam String termos,
+            @RequestParam(defaultValue = "20") int limite) {
+        return ResponseEntity.ok(service.buscarPorItens(termos, limite));
+    }
+
+    @Override
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarResumos() {
+        ObjectWriter writer = objectMapper.writerFor(PedidoResumo.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+
+        StreamingResponseBody corpo = saida -> {
+            try (SequenceWriter sequencia = writer.writeValues(saida)) {
+                service.transmitirResumos(resumo -> {
+                    try {
+                        sequencia.write(resumo);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
     }
 
     @Override
@@ -74,6 +172,13 @@ public class PedidoController implements PedidoOpenApi {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    @PatchMapping("/status")
+    public ResponseEntity<LoteAtualizacaoStatusResponse> atualizarStatusEmLote(
+            @RequestBody @Valid LoteAtualizacaoStatusRequest request) {
+        return ResponseEntity.ok(service.atualizarStatusEmLote(request.getAtualizacoes()));
+    }
+
     @Override
     @PutMapping("/{id}/pago")
     public ResponseEntity<Void> aprovarPagamento(@PathVariable UUID id) {
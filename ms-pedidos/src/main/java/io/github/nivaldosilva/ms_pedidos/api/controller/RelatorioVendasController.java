@@ -0,0 +1,32 @@
+package io.github.nivaldosilva.ms_pedidos.api.controller;
+
+import java.time.Instant;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import io.github.nivaldosilva.ms_pedidos.api.openapi.RelatorioVendasOpenApi;
+import io.github.nivaldosilva.ms_pedidos.dto.RelatorioVendasResponse;
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.service.RelatorioVendasService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/relatorios")
+@RequiredArgsConstructor
+public class RelatorioVendasController implements RelatorioVendasOpenApi {
+
+    private final RelatorioVendasService service;
+
+    @Override
+    @GetMapping("/vendas")
+    public ResponseEntity<RelatorioVendasResponse> consultarVendas(
+            @RequestParam(defaultValue = "HORA") GranularidadeRelatorio granularidade,
+            @RequestParam Instant inicio,
+            @RequestParam Instant fim,
+            @RequestParam(required = false) StatusPedido status) {
+        return ResponseEntity.ok(service.consultarVendas(granularidade, inicio, fim, status));
+    }
+}
@@ -1,9 +1,16 @@
 package io.github.nivaldosilva.ms_pedidos.api.openapi;
 
 import io.github.nivaldosilva.ms_pedidos.dto.AtualizacaoStatus;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PainelPedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoPagina;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,10 +19,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 import java.util.List;
 import java.util.UUID;
@@ -34,33 +44,80 @@ public interface PedidoOpenApi {
                         @RequestBody @Valid PedidoRequest request,
                         UriComponentsBuilder uriBuilder);
 
+        @Operation(summary = "Importar lote de pedidos", description = "Registra até 1000 pedidos em uma única requisição, gravados em blocos com INSERTs agrupados. Destinado a integrações que enviam pedidos em rajadas. Todos os pedidos são criados com status REALIZADO; se algum for inválido, nenhum pedido do lote é gravado.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "201", description = "Lote importado com sucesso", content = @Content(schema = @Schema(implementation = LotePedidosResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Dados inválidos em algum pedido do lote ou lote vazio/acima do limite", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @PostMapping("/lote")
+        ResponseEntity<LotePedidosResponse> importarLote(@RequestBody @Valid LotePedidosRequest request);
+
         @Operation(summary = "Buscar pedido por ID", description = "Retorna os detalhes completos de um pedido específico incluindo itens, status, valor total e informações de entrega.")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Pedido encontrado e retornado com sucesso", content = @Content(schema = @Schema(implementation = PedidoResponse.class))),
+                        @ApiResponse(responseCode = "304", description = "Pedido não alterado desde o ETag enviado em If-None-Match"),
                         @ApiResponse(responseCode = "404", description = "Pedido não encontrado com o ID fornecido", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         @GetMapping("/{id}")
         ResponseEntity<PedidoResponse> obterPorId(
-                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable @NotNull UUID id);
+                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable UUID id,
+                        WebRequest request);
+
+        @Operation(summary = "Acompanhar status do pedido", description = "Abre um fluxo Server-Sent Events que envia o status atual do pedido e, em seguida, um evento 'status' a cada mudança. Substitui a consulta periódica de GET /pedidos/{id}; a conexão é encerrada após 30 minutos e deve ser reaberta pelo cliente.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = StatusPedidoAlteradoEvent.class))),
+                        @ApiResponse(responseCode = "404", description = "Pedido não encontrado com o ID fornecido", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @GetMapping(path = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter acompanharPedido(
+                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable UUID id);
+
+        @Operation(summary = "Acompanhar status de todos os pedidos", description = "Abre um fluxo Server-Sent Events com um evento 'status' para cada mudança de status de qualquer pedido. Destinado às telas do estabelecimento.")
+        @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = StatusPedidoAlteradoEvent.class)))
+        @GetMapping(path = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter acompanharPedidos();
 
-        @Operation(summary = "Listar todos os pedidos", description = "Retorna um resumo de todos os pedidos cadastrados no sistema com informações básicas como ID, status, valor total e data.")
-        @ApiResponse(responseCode = "200", description = "Lista de pedidos retornada com sucesso (pode estar vazia se não houver pedidos)")
-        @GetMapping
-        ResponseEntity<List<PedidoResumo>> listarTodos();
+        @Operation(summary = "Painel de pedidos", description = "Retorna a quantidade de pedidos em cada status e o total de pedidos e o faturamento do dia, mantidos em memória a cada mudança de status e recalculados periodicamente a partir do banco. Destinado às telas do estabelecimento, que podem consultá-lo com frequência sem custo de banco.")
+        @ApiResponse(responseCode = "200", description = "Contadores retornados com sucesso", content = @Content(schema = @Schema(implementation = PainelPedidosResponse.class)))
+        @GetMapping("/painel")
+        ResponseEntity<PainelPedidosResponse> obterPainel();
+
+        @Operation(summary = "Listar pedidos", description = "Retorna uma página de resumos de pedidos ordenados por data de criação. Para buscar a página seguinte, envie o valor de proximo_cursor no parâmetro cursor.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso (pode estar vazia se não houver pedidos)"),
+                        @ApiResponse(responseCode = "422", description = "Cursor de paginação inválido", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+        ResponseEntity<PedidoPagina> listarTodos(
+                        @Parameter(description = "Cursor opaco retornado na página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Quantidade máxima de pedidos na página (1 a 200)", example = "50") @RequestParam(defaultValue = "50") int limite);
+
+        @Operation(summary = "Buscar pedidos por itens", description = "Retorna os pedidos recentes cujos itens contêm todos os termos informados no nome ou na descrição, do mais novo para o mais antigo. A comparação ignora acentos e maiúsculas.")
+        @ApiResponse(responseCode = "200", description = "Pedidos encontrados (pode estar vazia se nenhum item corresponder)")
+        @GetMapping("/busca")
+        ResponseEntity<List<PedidoResumo>> buscarPorItens(
+                        @Parameter(description = "Termos procurados nos itens", example = "pizza calabresa", required = true) @RequestParam String termos,
+                        @Parameter(description = "Quantidade máxima de pedidos (1 a 200)", example = "20") @RequestParam(defaultValue = "20") int limite);
+
+        @Operation(summary = "Exportar todos os pedidos", description = "Transmite o resumo de todos os pedidos em NDJSON (um objeto JSON por linha), à medida que são lidos do banco de dados. Selecionado com o cabeçalho Accept: application/x-ndjson.")
+        @ApiResponse(responseCode = "200", description = "Resumos transmitidos com sucesso", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = PedidoResumo.class)))
+        @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+        ResponseEntity<StreamingResponseBody> exportarResumos();
 
         @Operation(summary = "Atualizar pedido", description = "Atualiza os dados de um pedido existente. Apenas pedidos com status REALIZADO podem ser alterados. Permite modificar itens, endereço e observações.")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Pedido atualizado com sucesso", content = @Content(schema = @Schema(implementation = PedidoResponse.class))),
                         @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos na requisição", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
                         @ApiResponse(responseCode = "404", description = "Pedido não encontrado com o ID fornecido", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+                        @ApiResponse(responseCode = "409", description = "O pedido foi alterado por outra requisição durante a atualização", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
                         @ApiResponse(responseCode = "422", description = "Status do pedido não permite alteração (pedido já em processamento, entregue ou cancelado)", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
         })
         @PutMapping("/{id}")
         ResponseEntity<PedidoResponse> atualizarPedido(
-                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable @NotNull UUID id,
+                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable UUID id,
                         @RequestBody @Valid PedidoRequest request);
 
-        @Operation(summary = "Atualizar status do pedido", description = "Altera o status do pedido seguindo o fluxo válido: REALIZADO → EM_PREPARACAO → PRONTO → SAIU_PARA_ENTREGA → ENTREGUE. Pedidos com status CANCELADO não podem ter o status alterado.")
+        @Operation(summary = "Atualizar status do pedido", description = "Altera o status do pedido seguindo o fluxo válido: REALIZADO → PAGO → EM_PREPARO → PRONTO → SAIU_PARA_ENTREGA → ENTREGUE (REALIZADO também pode ir direto para EM_PREPARO). Qualquer status não final pode ir para CANCELADO; pedidos ENTREGUE ou CANCELADO não podem ter o status alterado.")
         @ApiResponses({
                         @ApiResponse(responseCode = "204", description = "Status do pedido atualizado com sucesso (sem conteúdo no corpo da resposta)"),
                         @ApiResponse(responseCode = "404", description = "Pedido não encontrado com o ID fornecido", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
@@ -71,6 +128,15 @@ public interface PedidoOpenApi {
                         @Parameter(description = "ID de um pedido", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef") @PathVariable UUID id,
                         @RequestBody @Valid AtualizacaoStatus status);
 
+        @Operation(summary = "Atualizar status de vários pedidos", description = "Aplica várias mudanças de status em uma única transação, agrupadas por status de destino, seguindo o mesmo fluxo de transições do endpoint individual. Pedidos inexistentes ou com transição inválida são recusados individualmente sem impedir os demais.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada pedido", content = @Content(schema = @Schema(implementation = LoteAtualizacaoStatusResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou com itens sem ID/status", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @PatchMapping("/status")
+        ResponseEntity<LoteAtualizacaoStatusResponse> atualizarStatusEmLote(
+                        @RequestBody @Valid LoteAtualizacaoStatusRequest request);
+
         @Operation(summary = "Aprova o pagamento de um pedido", responses = {
                         @ApiResponse(responseCode = "204", description = "Pagamento aprovado com sucesso"),
                         @ApiResponse(responseCode = "400", description = "Status do pedido não permite o pagamento", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
@@ -86,6 +152,6 @@ public interface PedidoOpenApi {
         })
         @DeleteMapping("/{id}")
         ResponseEntity<Void> cancelarPedido(
-                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable @NotNull UUID id);
+                        @Parameter(description = "ID único do pedido no formato UUID", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable UUID id);
 
 }
\ No newline at end of file
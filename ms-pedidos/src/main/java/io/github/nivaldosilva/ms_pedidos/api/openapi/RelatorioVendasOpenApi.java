@@ -0,0 +1,34 @@
+package io.github.nivaldosilva.ms_pedidos.api.openapi;
+
+import java.time.Instant;
+import io.github.nivaldosilva.ms_pedidos.dto.RelatorioVendasResponse;
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Relatórios", description = "Relatórios de vendas consolidados")
+public interface RelatorioVendasOpenApi {
+
+        @Operation(summary = "Vendas por período", description = "Retorna a quantidade de pedidos e o valor vendido por minuto, hora ou dia, separados pelo status atual dos pedidos. Os valores vêm de uma tabela consolidada mantida a cada criação, alteração e mudança de status, então o custo depende apenas do intervalo consultado. Dias e horas seguem o fuso da loja.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso", content = @Content(schema = @Schema(implementation = RelatorioVendasResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Parâmetros ausentes ou em formato inválido", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+                        @ApiResponse(responseCode = "422", description = "Intervalo invertido ou com períodos demais para a granularidade", content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+        })
+        @GetMapping("/vendas")
+        ResponseEntity<RelatorioVendasResponse> consultarVendas(
+                        @Parameter(description = "Tamanho de cada período", example = "HORA") @RequestParam(defaultValue = "HORA") GranularidadeRelatorio granularidade,
+                        @Parameter(description = "Início do intervalo (ISO-8601)", required = true, example = "2025-10-14T03:00:00Z") @RequestParam Instant inicio,
+                        @Parameter(description = "Fim do intervalo, exclusivo (ISO-8601)", required = true, example = "2025-10-15T03:00:00Z") @RequestParam Instant fim,
+                        @Parameter(description = "Filtra por status atual dos pedidos") @RequestParam(required = false) StatusPedido status);
+}
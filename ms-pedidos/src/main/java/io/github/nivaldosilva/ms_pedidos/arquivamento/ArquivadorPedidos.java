@@ -0,0 +1,92 @@
+package io.github.nivaldosilva.ms_pedidos.arquivamento;
+
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.event.PedidosArquivadosEvent;
+import io.github.nivaldosilva.ms_pedidos.repository.PedidoArquivadoRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.PedidoRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ContagemStatusProjecao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+// Cada lote é copiado e removido na própria transação, mantendo os bloqueios curtos
+@Slf4j
+@Component
+public class ArquivadorPedidos {
+
+    private static final List<String> STATUS_FINALIZADOS = List.of(StatusPedido.ENTREGUE.name(), StatusPedido.CANCELADO.name());
+
+    private final PedidoRepository pedidoRepository;
+    private final PedidoArquivadoRepository arquivoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId fuso;
+    private final Duration idadeMinima;
+    private final int tamanhoLote;
+    private final int maximoLotes;
+
+    public ArquivadorPedidos(PedidoRepository pedidoRepository, PedidoArquivadoRepository arquivoRepository,
+            TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+            @Value("${pedidos.fuso:America/Sao_Paulo}") ZoneId fuso,
+            @Value("${pedidos.arquivamento.idade-minima:1d}") Duration idadeMinima,
+            @Value("${pedidos.arquivamento.lote:500}") int tamanhoLote,
+            @Value("${pedidos.arquivamento.maximo-lotes:100}") int maximoLotes) {
+        this.pedidoRepository = pedidoRepository;
+        this.arquivoRepository = arquivoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.fuso = fuso;
+        this.idadeMinima = idadeMinima;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoLotes = maximoLotes;
+    }
+
+    @Scheduled(fixedDelayString = "${pedidos.arquivamento.intervalo:10m}")
+    public void arquivarFinalizados() {
+        Instant limite = Instant.now().minus(idadeMinima);
+        int arquivados = 0;
+        for (int lote = 0; lote < maximoLotes; lote++) {
+            int quantidade = transactionTemplate.execute(status -> arquivarLote(limite));
+            arquivados += quantidade;
+            if (quantidade < tamanhoLote) {
+                break;
+            }
+        }
+        if (arquivados > 0) {
+            log.info("{} pedidos finalizados antes de {} movidos para o arquivo", arquivados, limite);
+        }
+    }
+
+    private int arquivarLote(Instant limite) {
+        List<byte[]> ids = pedidoRepository.findIdsParaArquivamento(STATUS_FINALIZADOS, limite, tamanhoLote);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // O painel conta só a tabela pedidos; sem esta contagem, cada lote viraria divergência na reconciliação
+        LocalDate hoje = LocalDate.now(fuso);
+        List<ContagemStatusProjecao> contagens = pedidoRepository.contarPorStatusDosPedidos(
+                ids.stream().map(ArquivadorPedidos::uuid).toList(), hoje.atStartOfDay(fuso).toInstant());
+
+        arquivoRepository.copiarPedidos(ids, Instant.now());
+        arquivoRepository.copiarItens(ids);
+        pedidoRepository.removerItensArquivados(ids);
+        pedidoRepository.removerArquivados(ids);
+        eventPublisher.publishEvent(new PedidosArquivadosEvent(hoje, contagens));
+        return ids.size();
+    }
+
+    private static UUID uuid(byte[] id) {
+        ByteBuffer bytes = ByteBuffer.wrap(id);
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+}
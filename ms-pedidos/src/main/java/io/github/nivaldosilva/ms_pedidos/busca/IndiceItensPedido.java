@@ -0,0 +1,247 @@
+package io.github.nivaldosilva.ms_pedidos.busca;
+
+import io.github.nivaldosilva.ms_pedidos.event.ItensPedidoAlteradosEvent;
+import io.github.nivaldosilva.ms_pedidos.repository.PedidoArquivadoRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.PedidoRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ItemIndexadoProjecao;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// Índice invertido termo -> pedidos sobre os itens dos pedidos recentes, ativos ou arquivados.
+// Os eventos de itens o mantêm atualizado; o banco só é lido na partida, em blocos.
+// Cada lista de pedidos fica ordenada do mais recente para o mais antigo, e a busca para no limite.
+@Slf4j
+@Component
+public class IndiceItensPedido {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+            "um", "uma", "para", "por");
+
+    private final PedidoRepository pedidoRepository;
+    private final PedidoArquivadoRepository arquivoRepository;
+    private final Duration janela;
+    private final int tamanhoLote;
+
+    private static final Comparator<Entrada> MAIS_RECENTES_PRIMEIRO = Comparator
+            .comparing(Entrada::dataPedido)
+            .thenComparing(Entrada::idPedido)
+            .reversed();
+
+    private final Map<String, Postagens> pedidosPorTermo = new ConcurrentHashMap<>();
+    private final Map<UUID, Documento> documentos = new ConcurrentHashMap<>();
+
+    public IndiceItensPedido(PedidoRepository pedidoRepository, PedidoArquivadoRepository arquivoRepository,
+            @Value("${pedidos.busca.janela:30d}") Duration janela,
+            @Value("${pedidos.busca.lote-reconstrucao:500}") int tamanhoLote) {
+        this.pedidoRepository = pedidoRepository;
+        this.arquivoRepository = arquivoRepository;
+        this.janela = janela;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    // Pedidos que contêm todos os termos da consulta, do mais recente para o mais antigo
+    public List<UUID> buscar(String consulta, int limite) {
+        Set<String> termos = termos(consulta);
+        if (termos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Postagens> listas = new ArrayList<>(termos.size());
+        for (String termo : termos) {
+            Postagens postagens = pedidosPorTermo.get(termo);
+            if (postagens == null) {
+                return List.of();
+            }
+            listas.add(postagens);
+        }
+        listas.sort(Comparator.comparingInt(Postagens::tamanho));
+
+        // A menor lista já vem na ordem da resposta: basta filtrar até juntar o limite
+        List<Postagens> demais = listas.subList(1, listas.size());
+        List<UUID> encontrados = new ArrayList<>();
+        for (Entrada entrada : listas.get(0).entradas()) {
+            if (encontrados.size() >= limite) {
+                break;
+            }
+            if (demais.stream().allMatch(postagens -> postagens.entradas().contains(entrada))) {
+                encontrados.add(entrada.idPedido());
+            }
+        }
+        return encontrados;
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarItens(ItensPedidoAlteradosEvent evento) {
+        indexar(evento.idPedido(), evento.dataPedido(), evento.textos(), true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        Instant desde = Instant.now().minus(janela);
+        int pedidos = reconstruir(desde, pedidoRepository::findPaginaApos, pedidoRepository::findItensIndexadosByIdPedidoIn)
+                + reconstruir(desde, arquivoRepository::findPaginaApos, arquivoRepository::findItensIndexadosByIdPedidoIn);
+        log.info("Índice de busca de itens carregado com {} pedidos desde {}", pedidos, desde);
+    }
+
+    @Scheduled(fixedDelayString = "${pedidos.busca.limpeza:10m}", initialDelayString = "${pedidos.busca.limpeza:10m}")
+    public void removerExpirados() {
+        Instant limite = Instant.now().minus(janela);
+        documentos.forEach((idPedido, documento) -> {
+            if (documento.dataPedido().isBefore(limite)) {
+                documentos.computeIfPresent(idPedido, (chave, atual) -> {
+                    Entrada entrada = new Entrada(atual.dataPedido(), idPedido);
+                    atual.termos().forEach(termo -> desindexar(termo, entrada));
+                    return null;
+                });
+            }
+        });
+    }
+
+    static Set<String> termos(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return Set.of();
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        Set<String> termos = new HashSet<>();
+        for (String termo : SEPARADORES.split(normalizado)) {
+            if (termo.length() > 1 && !PALAVRAS_VAZIAS.contains(termo)) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+
+    // Percorre a tabela por (data_hora, id_pedido) e carrega os itens de cada bloco com uma consulta IN
+    private int reconstruir(Instant desde, PaginaResumos paginas,
+            Function<Collection<UUID>, List<ItemIndexadoProjecao>> itensDosPedidos) {
+        Instant dataHora = desde;
+        UUID idPedido = new UUID(0, 0);
+        int total = 0;
+        List<ResumoPedidoProjecao> pagina;
+        do {
+            pagina = paginas.buscar(dataHora, idPedido, Limit.of(tamanhoLote));
+            if (pagina.isEmpty()) {
+                break;
+            }
+
+            Map<UUID, List<String>> textos = new HashMap<>();
+            for (ItemIndexadoProjecao item : itensDosPedidos.apply(pagina.stream().map(ResumoPedidoProjecao::idPedido).toList())) {
+                List<String> doPedido = textos.computeIfAbsent(item.idPedido(), chave -> new ArrayList<>());
+                doPedido.add(item.nome());
+                doPedido.add(item.descricao());
+            }
+            for (ResumoPedidoProjecao resumo : pagina) {
+                indexar(resumo.idPedido(), resumo.dataHora(), textos.getOrDefault(resumo.idPedido(), List.of()), false);
+            }
+
+            ResumoPedidoProjecao ultimo = pagina.get(pagina.size() - 1);
+            dataHora = ultimo.dataHora();
+            idPedido = ultimo.idPedido();
+            total += pagina.size();
+        } while (pagina.size() == tamanhoLote);
+        return total;
+    }
+
+    // Na reconstrução não substitui: um evento processado durante a carga traz itens mais novos que os lidos
+    private void indexar(UUID idPedido, Instant dataPedido, Collection<String> textos, boolean substituir) {
+        Set<String> termos = new HashSet<>();
+        textos.forEach(texto -> termos.addAll(termos(texto)));
+
+        documentos.compute(idPedido, (chave, anterior) -> {
+            if (anterior != null && !substituir) {
+                return anterior;
+            }
+            if (anterior != null) {
+                Entrada entradaAnterior = new Entrada(anterior.dataPedido(), idPedido);
+                anterior.termos().stream()
+                        .filter(termo -> !termos.contains(termo) || !anterior.dataPedido().equals(dataPedido))
+                        .forEach(termo -> desindexar(termo, entradaAnterior));
+            }
+            Entrada entrada = new Entrada(dataPedido, idPedido);
+            termos.forEach(termo -> pedidosPorTermo.compute(termo, (t, postagens) -> {
+                Postagens lista = postagens != null ? postagens : new Postagens();
+                lista.adicionar(entrada);
+                return lista;
+            }));
+            return new Documento(dataPedido, Set.copyOf(termos));
+        });
+    }
+
+    private void desindexar(String termo, Entrada entrada) {
+        pedidosPorTermo.computeIfPresent(termo, (t, postagens) -> {
+            postagens.remover(entrada);
+            return postagens.tamanho() == 0 ? null : postagens;
+        });
+    }
+
+    private record Documento(Instant dataPedido, Set<String> termos) {
+    }
+
+    private record Entrada(Instant dataPedido, UUID idPedido) {
+    }
+
+    // size() de ConcurrentSkipListSet percorre a lista inteira; o tamanho é mantido à parte.
+    // Alterações só acontecem dentro do compute do termo, então o contador acompanha o conjunto
+    private static final class Postagens {
+
+        private final ConcurrentSkipListSet<Entrada> entradas = new ConcurrentSkipListSet<>(MAIS_RECENTES_PRIMEIRO);
+        private final AtomicInteger tamanho = new AtomicInteger();
+
+        NavigableSet<Entrada> entradas() {
+            return entradas;
+        }
+
+        int tamanho() {
+            return tamanho.get();
+        }
+
+        void adicionar(Entrada entrada) {
+            if (entradas.add(entrada)) {
+                tamanho.incrementAndGet();
+            }
+        }
+
+        void remover(Entrada entrada) {
+            if (entradas.remove(entrada)) {
+                tamanho.decrementAndGet();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface PaginaResumos {
+        List<ResumoPedidoProjecao> buscar(Instant dataHora, UUID idPedido, Limit limite);
+    }
+}
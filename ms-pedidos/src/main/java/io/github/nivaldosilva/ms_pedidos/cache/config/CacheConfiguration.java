@@ -0,0 +1,14 @@
+package io.github.nivaldosilva.ms_pedidos.cache.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// O cache envolve a transação: acertos não abrem conexão e as remoções só ocorrem após o commit
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+
+    public static final String PEDIDOS = "pedidos";
+
+}
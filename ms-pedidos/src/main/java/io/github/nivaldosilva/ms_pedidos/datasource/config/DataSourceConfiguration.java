@@ -0,0 +1,54 @@
+package io.github.nivaldosilva.ms_pedidos.datasource.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.nivaldosilva.ms_pedidos.datasource.MonitorReplica;
+import io.github.nivaldosilva.ms_pedidos.datasource.RoteamentoDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "pedidos.replica.habilitada", havingValue = "true")
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("pedidos.replica.datasource")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public MonitorReplica monitorReplica(@Qualifier("replicaDataSource") DataSource replica,
+            @Value("${pedidos.replica.atraso-maximo:5s}") Duration atrasoMaximo,
+            @Value("${pedidos.replica.exigir-replicacao:true}") boolean exigirReplicacao) {
+        return new MonitorReplica(replica, atrasoMaximo, exigirReplicacao);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primarioDataSource") DataSource primario,
+            @Qualifier("replicaDataSource") DataSource replica, MonitorReplica monitorReplica) {
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(monitorReplica);
+        roteamento.setTargetDataSources(Map.of(
+                RoteamentoDataSource.Destino.PRIMARIO, primario,
+                RoteamentoDataSource.Destino.REPLICA, replica));
+        roteamento.setDefaultTargetDataSource(primario);
+        roteamento.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+}
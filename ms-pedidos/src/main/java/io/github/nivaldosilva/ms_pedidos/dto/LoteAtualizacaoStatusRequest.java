@@ -0,0 +1,47 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.util.List;
+import java.util.UUID;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Atualização de status de vários pedidos")
+public class LoteAtualizacaoStatusRequest {
+
+    @NotEmpty(message = "Informe pelo menos uma atualização de status")
+    @Size(max = 500, message = "O lote pode conter no máximo 500 atualizações")
+    @Valid
+    @JsonProperty("atualizacoes")
+    @Schema(description = "Pares de pedido e novo status", required = true)
+    private List<ItemAtualizacao> atualizacoes;
+
+    @Data
+    @Builder
+    @Schema(description = "Novo status de um pedido")
+    public static class ItemAtualizacao {
+
+        @NotNull(message = "Informe o ID do pedido")
+        @JsonProperty("id_pedido")
+        @Schema(description = "ID do pedido", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890", required = true)
+        private UUID idPedido;
+
+        @NotNull(message = "O status é obrigatório")
+        @JsonProperty("status")
+        @Schema(description = "Novo status do pedido", example = "EM_PREPARO", required = true)
+        private StatusPedido status;
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.util.List;
+import java.util.UUID;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resultado da atualização de status em lote")
+public class LoteAtualizacaoStatusResponse {
+
+    @JsonProperty("atualizados")
+    @Schema(description = "Quantidade de pedidos com status alterado", example = "12")
+    private Integer atualizados;
+
+    @JsonProperty("recusados")
+    @Schema(description = "Quantidade de pedidos não alterados", example = "1")
+    private Integer recusados;
+
+    @JsonProperty("resultados")
+    @Schema(description = "Resultado de cada pedido, na ordem da requisição")
+    private List<Resultado> resultados;
+
+    @Data
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Resultado {
+
+        @JsonProperty("id_pedido")
+        @Schema(example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+        private UUID idPedido;
+
+        @JsonProperty("atualizado")
+        @Schema(description = "Indica se o status foi alterado", example = "true")
+        private boolean atualizado;
+
+        @JsonProperty("status_anterior")
+        @Schema(description = "Status antes da atualização; ausente se o pedido não existe", example = "PAGO")
+        private StatusPedido statusAnterior;
+
+        @JsonProperty("status")
+        @Schema(description = "Status atual do pedido; ausente se o pedido não existe", example = "EM_PREPARO")
+        private StatusPedido status;
+
+        @JsonProperty("mensagem")
+        @Schema(description = "Motivo da recusa", example = "Transição de status inválida: ENTREGUE -> EM_PREPARO")
+        private String mensagem;
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lote de pedidos para importação")
+public class LotePedidosRequest {
+
+    @NotEmpty(message = "Informe pelo menos um pedido no lote")
+    @Size(max = 1000, message = "O lote pode conter no máximo 1000 pedidos")
+    @Valid
+    @JsonProperty("pedidos")
+    @Schema(description = "Pedidos a serem importados", required = true)
+    private List<PedidoRequest> pedidos;
+
+}
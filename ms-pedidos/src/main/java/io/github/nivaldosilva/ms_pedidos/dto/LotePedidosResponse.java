@@ -0,0 +1,22 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resultado da importação de um lote de pedidos")
+public class LotePedidosResponse {
+
+    @JsonProperty("quantidade_pedidos")
+    @Schema(description = "Quantidade de pedidos criados", example = "250")
+    private Integer quantidadePedidos;
+
+    @JsonProperty("pedidos")
+    @Schema(description = "Resumo dos pedidos criados, na mesma ordem do lote")
+    private List<PedidoResumo> pedidos;
+
+}
@@ -0,0 +1,38 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Contadores em tempo real dos pedidos da loja")
+public class PainelPedidosResponse {
+
+    @JsonProperty("pedidos_por_status")
+    @Schema(description = "Quantidade de pedidos em cada status, sem os pedidos finalizados já movidos para o arquivo", example = "{\"REALIZADO\": 12, \"EM_PREPARO\": 5}")
+    private Map<StatusPedido, Long> pedidosPorStatus;
+
+    @JsonProperty("pedidos_hoje")
+    @Schema(description = "Pedidos criados no dia de referência que ainda não foram arquivados", example = "148")
+    private Long pedidosHoje;
+
+    @JsonProperty("faturamento_hoje")
+    @Schema(description = "Soma dos totais dos pedidos do dia, exceto cancelados e arquivados", example = "7421.50")
+    private BigDecimal faturamentoHoje;
+
+    @JsonProperty("data_referencia")
+    @Schema(description = "Dia considerado, no fuso da loja", example = "2025-10-14")
+    private LocalDate dataReferencia;
+
+    @JsonProperty("reconciliado_em")
+    @Schema(description = "Última vez em que os contadores foram recalculados a partir do banco", example = "2025-10-14T15:30:00Z")
+    private Instant reconciliadoEm;
+
+}
@@ -0,0 +1,23 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Página de pedidos ordenada por data de criação")
+public class PedidoPagina {
+
+    @JsonProperty("pedidos")
+    @Schema(description = "Pedidos desta página")
+    private List<PedidoResumo> pedidos;
+
+    @JsonProperty("proximo_cursor")
+    @Schema(description = "Cursor opaco para buscar a próxima página; ausente na última página", example = "MjAyNS0xMC0xNFQxNTozMDowMFp8YTFiMmMzZDQ")
+    private String proximoCursor;
+}
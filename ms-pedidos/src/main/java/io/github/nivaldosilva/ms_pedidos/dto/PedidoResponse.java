@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -44,6 +45,10 @@ public class PedidoResponse {
     @Schema(description = "Observações do cliente")
     private String observacoes;
 
+    // Não vai no JSON: o controller a expõe como ETag
+    @JsonIgnore
+    private Long versao;
+
     @Data
     @Builder
     @JsonInclude(JsonInclude.Include.NON_NULL)
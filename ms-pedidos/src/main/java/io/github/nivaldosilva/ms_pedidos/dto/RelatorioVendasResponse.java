@@ -0,0 +1,53 @@
+package io.github.nivaldosilva.ms_pedidos.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Quantidade de pedidos e valor vendido por período e status")
+public class RelatorioVendasResponse {
+
+    @JsonProperty("granularidade")
+    @Schema(description = "Tamanho de cada período", example = "HORA")
+    private GranularidadeRelatorio granularidade;
+
+    @JsonProperty("inicio")
+    @Schema(description = "Início do intervalo consultado, alinhado ao período", example = "2025-10-14T03:00:00Z")
+    private Instant inicio;
+
+    @JsonProperty("fim")
+    @Schema(description = "Fim do intervalo consultado (exclusivo)", example = "2025-10-15T03:00:00Z")
+    private Instant fim;
+
+    @JsonProperty("periodos")
+    @Schema(description = "Um registro por período e status com pedidos; períodos sem pedidos são omitidos")
+    private List<Periodo> periodos;
+
+    @Data
+    @Builder
+    public static class Periodo {
+        @JsonProperty("inicio")
+        @Schema(description = "Início do período", example = "2025-10-14T15:00:00Z")
+        private Instant inicio;
+
+        @JsonProperty("status")
+        @Schema(description = "Status atual dos pedidos contabilizados", example = "PAGO")
+        private StatusPedido status;
+
+        @JsonProperty("quantidade_pedidos")
+        @Schema(example = "42")
+        private Long quantidadePedidos;
+
+        @JsonProperty("total")
+        @Schema(description = "Soma dos totais dos pedidos", example = "2150.40")
+        private BigDecimal total;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.nivaldosilva.ms_pedidos.duplicidade;
+
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
+import lombok.experimental.UtilityClass;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class AssinaturaPedido {
+
+    public static String calcular(List<PedidoRequest.ItemRequest> itens) {
+        String conteudo = itens.stream()
+                .map(item -> linha(item.getNome(), item.getQuantidade(), item.getPrecoUnitario()))
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return sha256(conteudo);
+    }
+
+    private static String linha(String nome, Integer quantidade, BigDecimal precoUnitario) {
+        return nome.trim() + "|" + quantidade + "|" + precoUnitario.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String sha256(String conteudo) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
+}
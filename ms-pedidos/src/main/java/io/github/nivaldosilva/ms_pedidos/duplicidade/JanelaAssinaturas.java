@@ -0,0 +1,88 @@
+package io.github.nivaldosilva.ms_pedidos.duplicidade;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Uma falta aqui não é conclusiva: o pedido pode ter sido criado por outra instância.
+@Component
+public class JanelaAssinaturas {
+
+    private final Duration duracao;
+    private final int capacidade;
+    private final LinkedHashMap<String, Registro> registros = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JanelaAssinaturas(
+            @Value("${pedidos.duplicidade.janela:3m}") Duration duracao,
+            @Value("${pedidos.duplicidade.capacidade:10000}") int capacidade) {
+        this.duracao = duracao;
+        this.capacidade = capacidade;
+    }
+
+    public Duration getDuracao() {
+        return duracao;
+    }
+
+    public Optional<UUID> buscar(String assinatura) {
+        lock.lock();
+        try {
+            Instant limite = Instant.now().minus(duracao);
+            descartarExpirados(limite);
+
+            Registro registro = registros.get(assinatura);
+            if (registro == null || !registro.dataPedido().isAfter(limite)) {
+                return Optional.empty();
+            }
+            return Optional.of(registro.idPedido());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void registrar(String assinatura, UUID idPedido, Instant dataPedido) {
+        lock.lock();
+        try {
+            Instant agora = Instant.now();
+            registros.remove(assinatura);
+            registros.put(assinatura, new Registro(idPedido, dataPedido != null ? dataPedido : agora, agora));
+
+            descartarExpirados(agora.minus(duracao));
+            Iterator<Map.Entry<String, Registro>> iterator = registros.entrySet().iterator();
+            while (registros.size() > capacidade && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remover(String assinatura) {
+        lock.lock();
+        try {
+            registros.remove(assinatura);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A ordem de inserção segue registradoEm, não dataPedido: um acerto do fallback no banco entra no fim
+    // com um pedido antigo. Quem expirou por dataPedido mas ainda está no meio é recusado em buscar.
+    private void descartarExpirados(Instant limite) {
+        Iterator<Registro> iterator = registros.values().iterator();
+        while (iterator.hasNext() && !iterator.next().registradoEm().isAfter(limite)) {
+            iterator.remove();
+        }
+    }
+
+    private record Registro(UUID idPedido, Instant dataPedido, Instant registradoEm) {
+    }
+}
@@ -1,7 +1,7 @@
 package io.github.nivaldosilva.ms_pedidos.entity;
 
-import java.math.BigDecimal;
 import java.util.UUID;
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,7 +15,6 @@ import lombok.*;
 @AllArgsConstructor
 public class ItemPedido {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id_item", updatable = false, nullable = false)
     private UUID idItem;
 
@@ -30,7 +29,7 @@ public class ItemPedido {
     private String descricao;
 
     @Column(name = "preco_unitario", nullable = false, precision = 10, scale = 2)
-    private BigDecimal precoUnitario;
+    private Dinheiro precoUnitario;
 
     @Column(nullable = false)
     private Integer quantidade;
@@ -38,11 +37,15 @@ public class ItemPedido {
     @Column(length = 200)
     private String observacao;
 
-    public BigDecimal getSubtotal() {
+    public Dinheiro getSubtotal() {
+        return Dinheiro.deCentavos(subtotalEmCentavos());
+    }
+
+    long subtotalEmCentavos() {
         if (this.precoUnitario == null || this.quantidade == null) {
-            return BigDecimal.ZERO;
+            return 0;
         }
-        return this.precoUnitario.multiply(new BigDecimal(this.quantidade));
+        return Math.multiplyExact(this.precoUnitario.centavos(), this.quantidade);
     }
 
 }
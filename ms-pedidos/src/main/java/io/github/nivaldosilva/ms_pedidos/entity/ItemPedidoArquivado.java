@@ -0,0 +1,41 @@
+package io.github.nivaldosilva.ms_pedidos.entity;
+
+import java.util.UUID;
+import org.hibernate.annotations.Immutable;
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Immutable
+@Table(name = "itens_pedido_arquivo")
+@Data
+@ToString(exclude = "pedido")
+@EqualsAndHashCode(exclude = "pedido")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPedidoArquivado {
+
+    @Id
+    @Column(name = "id_item", nullable = false)
+    private UUID idItem;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "pedido_id", nullable = false)
+    private PedidoArquivado pedido;
+
+    @Column(nullable = false, length = 255)
+    private String nome;
+
+    @Column(nullable = false, length = 255)
+    private String descricao;
+
+    @Column(name = "preco_unitario", nullable = false, precision = 10, scale = 2)
+    private Dinheiro precoUnitario;
+
+    @Column(nullable = false)
+    private Integer quantidade;
+
+    @Column(length = 200)
+    private String observacao;
+}
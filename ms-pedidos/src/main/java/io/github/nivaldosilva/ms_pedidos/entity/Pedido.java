@@ -1,12 +1,14 @@
 package io.github.nivaldosilva.ms_pedidos.entity;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
 import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.util.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,14 +16,15 @@ import lombok.*;
 @Table(name = "pedidos")
 @Data
 @ToString(exclude = "itens")
-@EqualsAndHashCode(exclude = "itens")
+@EqualsAndHashCode(exclude = { "itens", "novo" })
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Pedido {
+public class Pedido implements Persistable<UUID> {
+
+    public static final Dinheiro TAXA_ENTREGA = Dinheiro.deCentavos(800);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id_pedido", updatable = false, nullable = false)
     private UUID idPedido;
 
@@ -36,18 +39,62 @@ public class Pedido {
     @Column(name = "observacao", length = 300)
     private String observacao;
 
+    @Column(name = "assinatura", length = 64)
+    private String assinatura;
+
+    @Column(name = "subtotal", nullable = false, precision = 10, scale = 2)
+    @Builder.Default
+    private Dinheiro subtotal = Dinheiro.ZERO;
+
+    @Column(name = "total", nullable = false, precision = 10, scale = 2)
+    @Builder.Default
+    private Dinheiro total = Dinheiro.ZERO;
+
+    @Column(name = "quantidade_itens", nullable = false)
+    @Builder.Default
+    private Integer quantidadeItens = 0;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "pedido", orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<ItemPedido> itens = new ArrayList<>();
 
-    @CreationTimestamp
     @Column(name = "data_hora", nullable = false, updatable = false)
     private Instant dataHora;
 
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean novo = true;
+
+    @Override
+    public UUID getId() {
+        return this.idPedido;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
     public void adicionarItem(ItemPedido item) {
         if (this.statusPedido != StatusPedido.REALIZADO) {
             throw new IllegalStateException("Não é possível adicionar itens a um pedido que não está REALIZADO.");
         }
+        if (item.getIdItem() == null) {
+            item.setIdItem(UuidV7.gerar());
+        }
         this.itens.add(item);
         item.setPedido(this);
     }
@@ -57,9 +104,21 @@ public class Pedido {
         item.setPedido(null);
     }
 
-    public BigDecimal calcularTotal() {
-        return this.itens.stream()
-                .map(ItemPedido::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Dinheiro calcularTotal() {
+        long centavos = 0;
+        for (ItemPedido item : this.itens) {
+            centavos = Math.addExact(centavos, item.subtotalEmCentavos());
+        }
+        return Dinheiro.deCentavos(centavos);
+    }
+
+    public void recalcularTotais() {
+        this.subtotal = calcularTotal();
+        this.total = this.subtotal.mais(TAXA_ENTREGA);
+        int quantidade = 0;
+        for (ItemPedido item : this.itens) {
+            quantidade += item.getQuantidade();
+        }
+        this.quantidadeItens = quantidade;
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package io.github.nivaldosilva.ms_pedidos.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.annotations.Immutable;
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import jakarta.persistence.*;
+import lombok.*;
+
+// Pedidos finalizados movidos de pedidos pelo ArquivadorPedidos; somente leitura
+@Entity
+@Immutable
+@Table(name = "pedidos_arquivo")
+@Data
+@ToString(exclude = "itens")
+@EqualsAndHashCode(exclude = "itens")
+@NoArgsConstructor
+@AllArgsConstructor
+public class PedidoArquivado {
+
+    @Id
+    @Column(name = "id_pedido", nullable = false)
+    private UUID idPedido;
+
+    @Column(name = "numero", length = 10)
+    private String numero;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_pedido", nullable = false, length = 20)
+    private StatusPedido statusPedido;
+
+    @Column(name = "observacao", length = 300)
+    private String observacao;
+
+    @Column(name = "subtotal", nullable = false, precision = 10, scale = 2)
+    private Dinheiro subtotal;
+
+    @Column(name = "total", nullable = false, precision = 10, scale = 2)
+    private Dinheiro total;
+
+    @Column(name = "quantidade_itens", nullable = false)
+    private Integer quantidadeItens;
+
+    @OneToMany(mappedBy = "pedido")
+    private List<ItemPedidoArquivado> itens = new ArrayList<>();
+
+    @Column(name = "data_hora", nullable = false)
+    private Instant dataHora;
+
+    @Column(name = "data_arquivamento", nullable = false)
+    private Instant dataArquivamento;
+
+    // Versão do pedido no momento do arquivamento; nula nos arquivados antes desta coluna existir
+    @Column(name = "versao")
+    private Long versao;
+}
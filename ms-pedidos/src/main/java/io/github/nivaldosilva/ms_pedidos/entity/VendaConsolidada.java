@@ -0,0 +1,50 @@
+package io.github.nivaldosilva.ms_pedidos.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.hibernate.annotations.Immutable;
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import jakarta.persistence.*;
+import lombok.*;
+
+// Escrita apenas pelo ConsolidadorVendas, via upsert nativo
+@Entity
+@Immutable
+@Table(name = "vendas_consolidadas")
+@IdClass(VendaConsolidada.Chave.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaConsolidada {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularidade", nullable = false, length = 10)
+    private GranularidadeRelatorio granularidade;
+
+    @Id
+    @Column(name = "inicio", nullable = false)
+    private Instant inicio;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_pedido", nullable = false, length = 20)
+    private StatusPedido statusPedido;
+
+    @Column(name = "quantidade_pedidos", nullable = false)
+    private Long quantidadePedidos;
+
+    @Column(name = "total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private GranularidadeRelatorio granularidade;
+        private Instant inicio;
+        private StatusPedido statusPedido;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.nivaldosilva.ms_pedidos.enums;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GranularidadeRelatorio {
+
+    MINUTO(ChronoUnit.MINUTES),
+    HORA(ChronoUnit.HOURS),
+    DIA(ChronoUnit.DAYS);
+
+    private final ChronoUnit unidade;
+
+    public Instant inicioDoPeriodo(Instant instante, ZoneId fuso) {
+        return instante.atZone(fuso).truncatedTo(unidade).toInstant();
+    }
+
+    public long quantidadePeriodos(Instant inicio, Instant fim) {
+        return Duration.between(inicio, fim).dividedBy(unidade.getDuration()) + 1;
+    }
+}
@@ -1,5 +1,10 @@
 package io.github.nivaldosilva.ms_pedidos.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import lombok.Getter;
 
 @Getter
@@ -11,6 +16,37 @@ public enum StatusPedido {
     EM_PREPARO,
     PRONTO,
     SAIU_PARA_ENTREGA,
-    ENTREGUE
-  
+    ENTREGUE;
+
+    private static final Map<StatusPedido, Set<StatusPedido>> TRANSICOES = new EnumMap<>(StatusPedido.class);
+    private static final Map<StatusPedido, Set<StatusPedido>> ORIGENS = new EnumMap<>(StatusPedido.class);
+
+    static {
+        TRANSICOES.put(REALIZADO, EnumSet.of(PAGO, EM_PREPARO, CANCELADO));
+        TRANSICOES.put(PAGO, EnumSet.of(EM_PREPARO, CANCELADO));
+        TRANSICOES.put(EM_PREPARO, EnumSet.of(PRONTO, CANCELADO));
+        TRANSICOES.put(PRONTO, EnumSet.of(SAIU_PARA_ENTREGA, CANCELADO));
+        TRANSICOES.put(SAIU_PARA_ENTREGA, EnumSet.of(ENTREGUE, CANCELADO));
+        TRANSICOES.put(ENTREGUE, EnumSet.noneOf(StatusPedido.class));
+        TRANSICOES.put(CANCELADO, EnumSet.noneOf(StatusPedido.class));
+
+        for (StatusPedido destino : values()) {
+            ORIGENS.put(destino, EnumSet.noneOf(StatusPedido.class));
+        }
+        TRANSICOES.forEach((origem, destinos) -> destinos.forEach(destino -> ORIGENS.get(destino).add(origem)));
+        ORIGENS.replaceAll((destino, origens) -> Collections.unmodifiableSet(origens));
+    }
+
+    public boolean permiteTransicaoPara(StatusPedido destino) {
+        return TRANSICOES.get(this).contains(destino);
+    }
+
+    public boolean isFinal() {
+        return TRANSICOES.get(this).isEmpty();
+    }
+
+    public static Set<StatusPedido> origensPara(StatusPedido destino) {
+        return ORIGENS.get(destino);
+    }
+
 }
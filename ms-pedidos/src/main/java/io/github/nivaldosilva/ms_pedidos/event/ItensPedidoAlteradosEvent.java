@@ -0,0 +1,12 @@
+package io.github.nivaldosilva.ms_pedidos.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Publicado na criação e na alteração de um pedido; textos são os nomes e descrições de todos os itens atuais
+public record ItensPedidoAlteradosEvent(
+        UUID idPedido,
+        Instant dataPedido,
+        List<String> textos) {
+}
@@ -0,0 +1,11 @@
+package io.github.nivaldosilva.ms_pedidos.event;
+
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ContagemStatusProjecao;
+import java.time.LocalDate;
+import java.util.List;
+
+// Um lote removido da tabela pedidos; as contagens "desde" consideram os pedidos criados em dia
+public record PedidosArquivadosEvent(
+        LocalDate dia,
+        List<ContagemStatusProjecao> contagens) {
+}
@@ -0,0 +1,19 @@
+package io.github.nivaldosilva.ms_pedidos.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.time.Instant;
+import java.util.UUID;
+
+// statusAnterior nulo indica um pedido recém-criado
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StatusPedidoAlteradoEvent(
+        @JsonProperty("id_pedido") UUID idPedido,
+        @JsonProperty("status_anterior") StatusPedido statusAnterior,
+        @JsonProperty("status") StatusPedido status,
+        @JsonProperty("total") Dinheiro total,
+        @JsonProperty("data_pedido") Instant dataPedido,
+        @JsonProperty("data_hora") Instant dataHora) {
+}
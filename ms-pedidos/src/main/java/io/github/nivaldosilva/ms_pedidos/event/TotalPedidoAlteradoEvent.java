@@ -0,0 +1,14 @@
+package io.github.nivaldosilva.ms_pedidos.event;
+
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.time.Instant;
+import java.util.UUID;
+
+public record TotalPedidoAlteradoEvent(
+        UUID idPedido,
+        StatusPedido status,
+        Dinheiro totalAnterior,
+        Dinheiro total,
+        Instant dataPedido) {
+}
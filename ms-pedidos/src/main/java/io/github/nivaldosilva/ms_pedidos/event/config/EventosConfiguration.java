@@ -0,0 +1,9 @@
+package io.github.nivaldosilva.ms_pedidos.event.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class EventosConfiguration {
+}
@@ -0,0 +1,31 @@
+package io.github.nivaldosilva.ms_pedidos.json.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Único ObjectMapper do serviço, usado pelo MVC, pelo outbox e pelo conversor do RabbitMQ
+@Configuration
+public class JacksonConfiguration {
+
+    // Getters e setters chamados por lambdas geradas em vez de reflexão
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer reciclagemDeBuffers() {
+        return builder -> builder.factory(fabricaJson());
+    }
+
+    // O pool padrão é por ThreadLocal: com virtual threads cada requisição alocaria buffers novos
+    public static JsonFactory fabricaJson() {
+        return JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build();
+    }
+}
@@ -1,13 +1,18 @@
 package io.github.nivaldosilva.ms_pedidos.mapper;
 
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
 import io.github.nivaldosilva.ms_pedidos.entity.ItemPedido;
 import io.github.nivaldosilva.ms_pedidos.entity.Pedido;
+import io.github.nivaldosilva.ms_pedidos.entity.PedidoArquivado;
 import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import io.github.nivaldosilva.ms_pedidos.util.UuidV7;
 import lombok.experimental.UtilityClass;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -15,8 +20,12 @@ import java.util.stream.Collectors;
 public class PedidoMapper {
 
     public static Pedido toEntity(PedidoRequest request) {
+        UUID idPedido = UuidV7.gerar();
         Pedido pedido = Pedido.builder()
-                .statusPedido(StatusPedido.REALIZADO) 
+                .idPedido(idPedido)
+                .numero(formatarNumeroPedido(idPedido))
+                .statusPedido(StatusPedido.REALIZADO)
+                .dataHora(Instant.now())
                 .observacao(request.getObservacoes())
                 .build();
 
@@ -24,22 +33,18 @@ public class PedidoMapper {
             ItemPedido item = ItemPedido.builder()
                     .nome(itemRequest.getNome())
                     .descricao(itemRequest.getDescricao())
-                    .precoUnitario(itemRequest.getPrecoUnitario())
+                    .precoUnitario(Dinheiro.de(itemRequest.getPrecoUnitario()))
                     .quantidade(itemRequest.getQuantidade())
                     .observacao(itemRequest.getObservacao())
                     .build();
             pedido.adicionarItem(item);
         });
+        pedido.recalcularTotais();
 
         return pedido;
     }
 
     public static PedidoResponse toResponse(Pedido pedido) {
-        BigDecimal subtotal = pedido.calcularTotal();
-        BigDecimal taxaEntrega = BigDecimal.valueOf(8.00);
-        BigDecimal desconto = BigDecimal.ZERO;
-        BigDecimal total = subtotal.add(taxaEntrega).subtract(desconto);
-
         String numero = pedido.getNumero();
         if (numero == null && pedido.getIdPedido() != null) {
             numero = formatarNumeroPedido(pedido.getIdPedido());
@@ -53,20 +58,45 @@ public class PedidoMapper {
                         .map(PedidoMapper::toItemResponse)
                         .collect(Collectors.toList()))
                 .resumo(PedidoResponse.ResumoFinanceiro.builder()
-                        .subtotal(subtotal)
-                        .taxaEntrega(taxaEntrega)
-                        .desconto(desconto)
-                        .total(total)
-                        .quantidadeItens(pedido.getItens().stream().mapToInt(ItemPedido::getQuantidade).sum())
+                        .subtotal(pedido.getSubtotal().toBigDecimal())
+                        .taxaEntrega(Pedido.TAXA_ENTREGA.toBigDecimal())
+                        .desconto(BigDecimal.ZERO)
+                        .total(pedido.getTotal().toBigDecimal())
+                        .quantidadeItens(pedido.getQuantidadeItens())
                         .build())
                 .dataPedido(pedido.getDataHora())
                 .observacoes(pedido.getObservacao())
+                .versao(pedido.getVersao())
                 .build();
     }
 
-    public static PedidoResumo toResumo(Pedido pedido) {
-        BigDecimal total = pedido.calcularTotal().add(BigDecimal.valueOf(8.00));
+    public static PedidoResponse toResponse(PedidoArquivado arquivado) {
+        Pedido pedido = Pedido.builder()
+                .idPedido(arquivado.getIdPedido())
+                .numero(arquivado.getNumero())
+                .statusPedido(arquivado.getStatusPedido())
+                .observacao(arquivado.getObservacao())
+                .subtotal(arquivado.getSubtotal())
+                .total(arquivado.getTotal())
+                .quantidadeItens(arquivado.getQuantidadeItens())
+                .dataHora(arquivado.getDataHora())
+                .versao(arquivado.getVersao())
+                .itens(arquivado.getItens().stream()
+                        .map(item -> ItemPedido.builder()
+                                .idItem(item.getIdItem())
+                                .nome(item.getNome())
+                                .descricao(item.getDescricao())
+                                .precoUnitario(item.getPrecoUnitario())
+                                .quantidade(item.getQuantidade())
+                                .observacao(item.getObservacao())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
 
+        return toResponse(pedido);
+    }
+
+    public static PedidoResumo toResumo(Pedido pedido) {
         String numero = pedido.getNumero();
         if (numero == null && pedido.getIdPedido() != null) {
             numero = formatarNumeroPedido(pedido.getIdPedido());
@@ -79,20 +109,39 @@ public class PedidoMapper {
                         .codigo(pedido.getStatusPedido().name())
                         .descricao(getDescricaoStatus(pedido.getStatusPedido()))
                         .build())
-                .total(total)
-                .quantidadeItens(pedido.getItens().stream().mapToInt(ItemPedido::getQuantidade).sum())
+                .total(pedido.getTotal().toBigDecimal())
+                .quantidadeItens(pedido.getQuantidadeItens())
                 .dataPedido(pedido.getDataHora())
                 .build();
     }
 
+    public static PedidoResumo toResumo(ResumoPedidoProjecao projecao) {
+        String numero = projecao.numero();
+        if (numero == null && projecao.idPedido() != null) {
+            numero = formatarNumeroPedido(projecao.idPedido());
+        }
+
+        return PedidoResumo.builder()
+                .idPedido(projecao.idPedido())
+                .numero(numero)
+                .status(PedidoResumo.StatusSimples.builder()
+                        .codigo(projecao.statusPedido().name())
+                        .descricao(getDescricaoStatus(projecao.statusPedido()))
+                        .build())
+                .total(projecao.total().toBigDecimal())
+                .quantidadeItens(projecao.quantidadeItens())
+                .dataPedido(projecao.dataHora())
+                .build();
+    }
+
     private static PedidoResponse.ItemResponse toItemResponse(ItemPedido item) {
         return PedidoResponse.ItemResponse.builder()
                 .idItem(item.getIdItem())
                 .nome(item.getNome())
                 .descricao(item.getDescricao())
-                .precoUnitario(item.getPrecoUnitario())
+                .precoUnitario(item.getPrecoUnitario().toBigDecimal())
                 .quantidade(item.getQuantidade())
-                .subtotal(item.getSubtotal())
+                .subtotal(item.getSubtotal().toBigDecimal())
                 .observacao(item.getObservacao())
                 .build();
     }
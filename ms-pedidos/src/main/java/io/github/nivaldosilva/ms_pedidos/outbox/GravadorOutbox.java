@@ -0,0 +1,37 @@
+package io.github.nivaldosilva.ms_pedidos.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nivaldosilva.ms_pedidos.entity.EventoOutbox;
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.repository.EventoOutboxRepository;
+import io.github.nivaldosilva.ms_pedidos.util.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Instant;
+import java.util.Locale;
+
+// Grava na mesma transação da mudança de status; o RelayOutbox publica depois do commit
+@Component
+@RequiredArgsConstructor
+public class GravadorOutbox {
+
+    public static final String TIPO_STATUS_ALTERADO = "StatusPedidoAlterado";
+
+    private final EventoOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void aoAlterarStatus(StatusPedidoAlteradoEvent evento) throws JsonProcessingException {
+        repository.save(EventoOutbox.builder()
+                .idEvento(UuidV7.gerar())
+                .tipo(TIPO_STATUS_ALTERADO)
+                .idPedido(evento.idPedido())
+                .chaveRoteamento("pedido.status." + evento.status().name().toLowerCase(Locale.ROOT))
+                .payload(objectMapper.writeValueAsString(evento))
+                .dataCriacao(Instant.now())
+                .build());
+    }
+}
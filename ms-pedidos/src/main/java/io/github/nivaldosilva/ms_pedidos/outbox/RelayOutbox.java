@@ -0,0 +1,69 @@
+package io.github.nivaldosilva.ms_pedidos.outbox;
+
+import io.github.nivaldosilva.ms_pedidos.entity.EventoOutbox;
+import io.github.nivaldosilva.ms_pedidos.rabbitmq.config.RabbitMQConfiguration;
+import io.github.nivaldosilva.ms_pedidos.repository.EventoOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+@Slf4j
+@Component
+public class RelayOutbox {
+
+    private final EventoOutboxRepository repository;
+    private final RabbitTemplate rabbitTemplate;
+    private final int tamanhoLote;
+    private final long timeoutConfirmacao;
+
+    public RelayOutbox(EventoOutboxRepository repository, RabbitTemplate rabbitTemplate,
+            @Value("${pedidos.outbox.lote:100}") int tamanhoLote,
+            @Value("${pedidos.outbox.timeout-confirmacao:5s}") Duration timeoutConfirmacao) {
+        this.repository = repository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.timeoutConfirmacao = timeoutConfirmacao.toMillis();
+    }
+
+    // SKIP LOCKED permite várias instâncias drenando a fila sem publicar o mesmo evento duas vezes
+    @Scheduled(fixedDelayString = "${pedidos.outbox.intervalo:1s}")
+    @Transactional
+    public void publicarPendentes() {
+        List<EventoOutbox> eventos = repository.findLoteParaPublicacao(tamanhoLote);
+        if (eventos.isEmpty()) {
+            return;
+        }
+
+        rabbitTemplate.invoke(operacoes -> {
+            eventos.forEach(evento -> operacoes.send(RabbitMQConfiguration.EXCHANGE_EVENTOS_PEDIDOS,
+                    evento.getChaveRoteamento(), toMessage(evento)));
+            operacoes.waitForConfirmsOrDie(timeoutConfirmacao);
+            return null;
+        });
+
+        repository.deleteAllByIdInBatch(eventos.stream().map(EventoOutbox::getIdEvento).toList());
+        log.debug("{} eventos do outbox publicados", eventos.size());
+    }
+
+    private Message toMessage(EventoOutbox evento) {
+        return MessageBuilder.withBody(evento.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(evento.getIdEvento().toString())
+                .setType(evento.getTipo())
+                .setTimestamp(Date.from(evento.getDataCriacao()))
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.nivaldosilva.ms_pedidos.painel;
+
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.dto.PainelPedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.event.PedidosArquivadosEvent;
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.event.TotalPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.repository.PedidoRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ContagemStatusProjecao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores mantidos pelos eventos de status; a consulta agregada só roda na partida e na reconciliação
+@Slf4j
+@Component
+public class PainelPedidos {
+
+    private final PedidoRepository repository;
+    private final ZoneId fuso;
+    private final AtomicReference<Contadores> contadores;
+
+    public PainelPedidos(PedidoRepository repository, @Value("${pedidos.fuso:America/Sao_Paulo}") ZoneId fuso) {
+        this.repository = repository;
+        this.fuso = fuso;
+        this.contadores = new AtomicReference<>(Contadores.vazio(LocalDate.now(fuso), null));
+    }
+
+    public PainelPedidosResponse obterPainel() {
+        Contadores atuais = contadoresDoDia();
+        Map<StatusPedido, Long> porStatus = new LinkedHashMap<>();
+        atuais.porStatus().forEach((status, quantidade) -> porStatus.put(status, quantidade.sum()));
+
+        return PainelPedidosResponse.builder()
+                .pedidosPorStatus(porStatus)
+                .pedidosHoje(atuais.pedidosDia().sum())
+                .faturamentoHoje(BigDecimal.valueOf(atuais.faturamentoCentavosDia().sum(), 2))
+                .dataReferencia(atuais.dia())
+                .reconciliadoEm(atuais.reconciliadoEm())
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarStatus(StatusPedidoAlteradoEvent evento) {
+        Contadores atuais = contadoresDoDia();
+        if (evento.statusAnterior() != null) {
+            atuais.porStatus().get(evento.statusAnterior()).decrement();
+        }
+        atuais.porStatus().get(evento.status()).increment();
+
+        if (!atuais.dia().equals(LocalDate.ofInstant(evento.dataPedido(), fuso))) {
+            return;
+        }
+        if (evento.statusAnterior() == null) {
+            atuais.pedidosDia().increment();
+            atuais.faturamentoCentavosDia().add(centavos(evento.total()));
+        } else if (evento.status() == StatusPedido.CANCELADO) {
+            atuais.faturamentoCentavosDia().add(-centavos(evento.total()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarTotal(TotalPedidoAlteradoEvent evento) {
+        Contadores atuais = contadoresDoDia();
+        if (atuais.dia().equals(LocalDate.ofInstant(evento.dataPedido(), fuso))) {
+            atuais.faturamentoCentavosDia().add(centavos(evento.total()) - centavos(evento.totalAnterior()));
+        }
+    }
+
+    // Pedidos arquivados saem dos contadores, como saem da consulta usada na reconciliação
+    @TransactionalEventListener
+    public void aoArquivar(PedidosArquivadosEvent evento) {
+        Contadores atuais = contadoresDoDia();
+        boolean mesmoDia = atuais.dia().equals(evento.dia());
+        for (ContagemStatusProjecao contagem : evento.contagens()) {
+            atuais.porStatus().get(contagem.statusPedido()).add(-contagem.quantidade());
+            if (mesmoDia) {
+                atuais.pedidosDia().add(-contagem.quantidadeDesde());
+                if (contagem.statusPedido() != StatusPedido.CANCELADO) {
+                    atuais.faturamentoCentavosDia().add(-contagem.totalDesde().movePointRight(2).longValue());
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        reconciliar();
+    }
+
+    @Scheduled(fixedDelayString = "${pedidos.painel.reconciliacao:1m}", initialDelayString = "${pedidos.painel.reconciliacao:1m}")
+    public void reconciliar() {
+        LocalDate hoje = LocalDate.now(fuso);
+        Contadores recalculados = Contadores.vazio(hoje, Instant.now());
+        for (ContagemStatusProjecao contagem : repository.contarPorStatus(hoje.atStartOfDay(fuso).toInstant())) {
+            recalculados.porStatus().get(contagem.statusPedido()).add(contagem.quantidade());
+            recalculados.pedidosDia().add(contagem.quantidadeDesde());
+            if (contagem.statusPedido() != StatusPedido.CANCELADO) {
+                recalculados.faturamentoCentavosDia().add(contagem.totalDesde().movePointRight(2).longValue());
+            }
+        }
+
+        Contadores anteriores = contadores.getAndSet(recalculados);
+        if (anteriores.reconciliadoEm() != null && anteriores.dia().equals(hoje)) {
+            long divergencia = 0;
+            for (StatusPedido status : StatusPedido.values()) {
+                divergencia += Math.abs(anteriores.porStatus().get(status).sum() - recalculados.porStatus().get(status).sum());
+            }
+            if (divergencia > 0) {
+                log.info("Painel de pedidos reconciliado com divergência de {} pedidos", divergencia);
+            }
+        }
+    }
+
+    private Contadores contadoresDoDia() {
+        LocalDate hoje = LocalDate.now(fuso);
+        return contadores.updateAndGet(atuais -> atuais.dia().equals(hoje) ? atuais : atuais.virarDia(hoje));
+    }
+
+    private static long centavos(Dinheiro valor) {
+        return valor == null ? 0 : valor.centavos();
+    }
+
+    private record Contadores(
+            Map<StatusPedido, LongAdder> porStatus,
+            LocalDate dia,
+            LongAdder pedidosDia,
+            LongAdder faturamentoCentavosDia,
+            Instant reconciliadoEm) {
+
+        static Contadores vazio(LocalDate dia, Instant reconciliadoEm) {
+            Map<StatusPedido, LongAdder> porStatus = new EnumMap<>(StatusPedido.class);
+            for (StatusPedido status : StatusPedido.values()) {
+                porStatus.put(status, new LongAdder());
+            }
+            return new Contadores(porStatus, dia, new LongAdder(), new LongAdder(), reconciliadoEm);
+        }
+
+        // A contagem por status atravessa a meia-noite; só os totais do dia recomeçam
+        Contadores virarDia(LocalDate novoDia) {
+            return new Contadores(porStatus, novoDia, new LongAdder(), new LongAdder(), reconciliadoEm);
+        }
+    }
+}
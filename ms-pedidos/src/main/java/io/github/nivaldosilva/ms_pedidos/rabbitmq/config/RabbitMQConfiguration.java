@@ -1,7 +1,7 @@
 package io.github.nivaldosilva.ms_pedidos.rabbitmq.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -12,11 +12,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class RabbitMQConfiguration {
 
+    public static final String EXCHANGE_EVENTOS_PEDIDOS = "pedidos.eventos";
+
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return new Jackson2JsonMessageConverter(mapper);
+    public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
     }
 
     @Bean
@@ -26,5 +26,10 @@ public class RabbitMQConfiguration {
         return rabbitTemplate;
     }
 
+    @Bean
+    public TopicExchange eventosPedidosExchange() {
+        return new TopicExchange(EXCHANGE_EVENTOS_PEDIDOS, true, false);
+    }
+
 
 }
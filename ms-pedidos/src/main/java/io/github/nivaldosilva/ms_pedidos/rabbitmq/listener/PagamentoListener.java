@@ -1,43 +1,47 @@
 package io.github.nivaldosilva.ms_pedidos.rabbitmq.listener;
 
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusResponse;
 import io.github.nivaldosilva.ms_pedidos.dto.PagamentoResponse;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPagamento;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.service.PedidoService;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class PagamentoListener {
 
     public static final String QUEUE_NAME = "pagamento.concluido";
 
-    @RabbitListener(queues = QUEUE_NAME)
-    public void receberMensagem(PagamentoResponse pagamentoResponse) {
-        try {
-            log.info("═══════════════════════════════════════════════════════════");
-            log.info("🔔 NOVA MENSAGEM CONSUMIDA DA FILA: {}", QUEUE_NAME);
-            log.info("═══════════════════════════════════════════════════════════");
+    private final PedidoService pedidoService;
 
-            log.info("📦 Dados do Pagamento:");
-            log.info("   ├─ ID Pagamento: {}", pagamentoResponse.getIdPagamento());
-            log.info("   ├─ ID Pedido: {}", pagamentoResponse.getIdPedido());
-            log.info("   ├─ Titular: {}", pagamentoResponse.getNomeTitular());
-            log.info("   ├─ Número Cartão: {}", pagamentoResponse.getNumeroMascarado());
-            log.info("   ├─ Validade: {}", pagamentoResponse.getValidadeCartao());
-            log.info("   ├─ Valor: R$ {}", pagamentoResponse.getValor());
-            log.info("   ├─ Forma Pagamento: {}", pagamentoResponse.getFormaPagamento());
-            log.info("   └─ Status: {}", pagamentoResponse.getStatusPagamento());
+    // O lote inteiro é confirmado (ack) quando o método retorna; uma exceção devolve todas as mensagens à fila
+    @RabbitListener(queues = QUEUE_NAME, batch = "true")
+    public void receberMensagens(List<PagamentoResponse> pagamentos) {
+        List<LoteAtualizacaoStatusRequest.ItemAtualizacao> aprovacoes = pagamentos.stream()
+                .filter(pagamento -> pagamento.getStatusPagamento() == StatusPagamento.CONFIRMADO)
+                .map(pagamento -> LoteAtualizacaoStatusRequest.ItemAtualizacao.builder()
+                        .idPedido(pagamento.getIdPedido())
+                        .status(StatusPedido.PAGO)
+                        .build())
+                .toList();
 
-            log.info("✅ Mensagem processada com sucesso!");
-            log.info("═══════════════════════════════════════════════════════════\n");
-
-        } catch (Exception e) {
-            log.error("═══════════════════════════════════════════════════════════");
-            log.error("❌ ERRO ao processar pagamento da fila: {}", QUEUE_NAME);
-            log.error("📦 Dados recebidos: {}", pagamentoResponse);
-            log.error("🔥 Detalhes do erro:", e);
-            log.error("═══════════════════════════════════════════════════════════\n");
-            throw new RuntimeException("Falha ao processar pagamento", e);
+        log.info("{} mensagens consumidas da fila {}, {} pagamentos confirmados", pagamentos.size(), QUEUE_NAME,
+                aprovacoes.size());
+        if (aprovacoes.isEmpty()) {
+            return;
         }
+
+        LoteAtualizacaoStatusResponse resultado = pedidoService.atualizarStatusEmLote(aprovacoes);
+        resultado.getResultados().stream()
+                .filter(item -> !item.isAtualizado())
+                .forEach(item -> log.warn("Pagamento não aplicado ao pedido {}: {}", item.getIdPedido(),
+                        item.getMensagem()));
     }
 }
@@ -0,0 +1,110 @@
+package io.github.nivaldosilva.ms_pedidos.relatorio;
+
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.event.TotalPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.repository.VendaConsolidadaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Acumula as variações da transação e grava um upsert por minuto antes do commit, na mesma transação do pedido.
+// Hora e dia saem da soma dos minutos na consulta: uma linha por hora ou por dia serializaria todos os pedidos
+@Component
+public class ConsolidadorVendas {
+
+    // Ordem fixa de gravação evita deadlock entre transações que tocam os mesmos minutos
+    private static final Comparator<Periodo> ORDEM_GRAVACAO = Comparator
+            .comparing(Periodo::inicio)
+            .thenComparing(Periodo::status);
+
+    private final VendaConsolidadaRepository repository;
+    private final ZoneId fuso;
+
+    public ConsolidadorVendas(VendaConsolidadaRepository repository, @Value("${pedidos.fuso:America/Sao_Paulo}") ZoneId fuso) {
+        this.repository = repository;
+        this.fuso = fuso;
+    }
+
+    @EventListener
+    public void aoAlterarStatus(StatusPedidoAlteradoEvent evento) {
+        Map<Periodo, Variacao> variacoes = variacoesDaTransacao();
+        if (evento.statusAnterior() != null) {
+            acumular(variacoes, evento.dataPedido(), evento.statusAnterior(), -1, -evento.total().centavos());
+        }
+        acumular(variacoes, evento.dataPedido(), evento.status(), 1, evento.total().centavos());
+        gravarSeSemTransacao(variacoes);
+    }
+
+    @EventListener
+    public void aoAlterarTotal(TotalPedidoAlteradoEvent evento) {
+        Map<Periodo, Variacao> variacoes = variacoesDaTransacao();
+        acumular(variacoes, evento.dataPedido(), evento.status(), 0, evento.total().menos(evento.totalAnterior()).centavos());
+        gravarSeSemTransacao(variacoes);
+    }
+
+    private void acumular(Map<Periodo, Variacao> variacoes, Instant dataPedido, StatusPedido status,
+            long quantidade, long centavos) {
+        Periodo periodo = new Periodo(GranularidadeRelatorio.MINUTO.inicioDoPeriodo(dataPedido, fuso), status);
+        variacoes.merge(periodo, new Variacao(quantidade, centavos), Variacao::somar);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Periodo, Variacao> variacoesDaTransacao() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new TreeMap<>(ORDEM_GRAVACAO);
+        }
+        Map<Periodo, Variacao> variacoes = (Map<Periodo, Variacao>) TransactionSynchronizationManager.getResource(this);
+        if (variacoes == null) {
+            Map<Periodo, Variacao> novas = new TreeMap<>(ORDEM_GRAVACAO);
+            TransactionSynchronizationManager.bindResource(this, novas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    gravar(novas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(ConsolidadorVendas.this);
+                }
+            });
+            variacoes = novas;
+        }
+        return variacoes;
+    }
+
+    private void gravarSeSemTransacao(Map<Periodo, Variacao> variacoes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            gravar(variacoes);
+        }
+    }
+
+    private void gravar(Map<Periodo, Variacao> variacoes) {
+        variacoes.forEach((periodo, variacao) -> {
+            if (variacao.quantidade() != 0 || variacao.centavos() != 0) {
+                repository.acumular(periodo.inicio(), periodo.status().name(), variacao.quantidade(),
+                        BigDecimal.valueOf(variacao.centavos(), 2));
+            }
+        });
+    }
+
+    private record Periodo(Instant inicio, StatusPedido status) {
+    }
+
+    private record Variacao(long quantidade, long centavos) {
+
+        Variacao somar(Variacao outra) {
+            return new Variacao(quantidade + outra.quantidade, centavos + outra.centavos);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.nivaldosilva.ms_pedidos.repository;
+
+import io.github.nivaldosilva.ms_pedidos.entity.EventoOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, UUID> {
+
+    @Query(value = "SELECT * FROM outbox_eventos ORDER BY id_evento LIMIT :limite FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EventoOutbox> findLoteParaPublicacao(int limite);
+
+}
@@ -0,0 +1,54 @@
+package io.github.nivaldosilva.ms_pedidos.repository;
+
+import io.github.nivaldosilva.ms_pedidos.entity.PedidoArquivado;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ItemIndexadoProjecao;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PedidoArquivadoRepository extends JpaRepository<PedidoArquivado, UUID> {
+
+    @Query("SELECT p FROM PedidoArquivado p LEFT JOIN FETCH p.itens WHERE p.idPedido = :id")
+    Optional<PedidoArquivado> findByIdWithItens(UUID id);
+
+    @Query("SELECT p.versao FROM PedidoArquivado p WHERE p.idPedido = :id")
+    Optional<Long> findVersaoById(UUID id);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao(
+                p.idPedido, p.numero, p.statusPedido, p.dataHora, p.total, p.quantidadeItens)
+            FROM PedidoArquivado p WHERE p.dataHora > :dataHora OR (p.dataHora = :dataHora AND p.idPedido > :idPedido)
+            ORDER BY p.dataHora, p.idPedido""")
+    List<ResumoPedidoProjecao> findPaginaApos(Instant dataHora, UUID idPedido, Limit limite);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao(
+                p.idPedido, p.numero, p.statusPedido, p.dataHora, p.total, p.quantidadeItens)
+            FROM PedidoArquivado p WHERE p.idPedido IN :ids""")
+    List<ResumoPedidoProjecao> findResumosByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ItemIndexadoProjecao(i.pedido.idPedido, i.nome, i.descricao) FROM ItemPedidoArquivado i WHERE i.pedido.idPedido IN :ids")
+    List<ItemIndexadoProjecao> findItensIndexadosByIdPedidoIn(Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO pedidos_arquivo (id_pedido, numero, observacao, data_hora, status_pedido, subtotal, total, quantidade_itens, data_arquivamento, versao)
+            SELECT id_pedido, numero, observacao, data_hora, status_pedido, subtotal, total, quantidade_itens, :dataArquivamento, versao
+            FROM pedidos WHERE id_pedido IN (:ids)""", nativeQuery = true)
+    int copiarPedidos(Collection<byte[]> ids, Instant dataArquivamento);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO itens_pedido_arquivo (id_item, pedido_id, nome, descricao, preco_unitario, quantidade, observacao)
+            SELECT id_item, pedido_id, nome, descricao, preco_unitario, quantidade, observacao
+            FROM itens_pedido WHERE pedido_id IN (:ids)""", nativeQuery = true)
+    int copiarItens(Collection<byte[]> ids);
+
+}
@@ -2,19 +2,110 @@ package io.github.nivaldosilva.ms_pedidos.repository;
 
 import io.github.nivaldosilva.ms_pedidos.entity.Pedido;
 import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ContagemStatusProjecao;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ItemIndexadoProjecao;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.SituacaoPedidoProjecao;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PedidoRepository extends JpaRepository<Pedido, UUID> {
 
     @Query("SELECT p FROM Pedido p LEFT JOIN FETCH p.itens WHERE p.idPedido = :id")
     Optional<Pedido> findByIdWithItens(UUID id);
 
-    @Query("SELECT DISTINCT p FROM Pedido p LEFT JOIN FETCH p.itens WHERE p.statusPedido = :status AND p.dataHora > :data")
-    List<Pedido> findByStatusAndDataHoraAfterWithItens(StatusPedido status, Instant data);
+    @Query("SELECT p.versao FROM Pedido p WHERE p.idPedido = :id")
+    Optional<Long> findVersaoById(UUID id);
+
+    @Query("SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.SituacaoPedidoProjecao(p.idPedido, p.statusPedido, p.total, p.dataHora) FROM Pedido p WHERE p.idPedido = :id")
+    Optional<SituacaoPedidoProjecao> findSituacaoById(UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.SituacaoPedidoProjecao(p.idPedido, p.statusPedido, p.total, p.dataHora) FROM Pedido p WHERE p.idPedido = :id")
+    Optional<SituacaoPedidoProjecao> findSituacaoByIdParaAtualizacao(UUID id);
+
+    @Query("SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.SituacaoPedidoProjecao(p.idPedido, p.statusPedido, p.total, p.dataHora) FROM Pedido p WHERE p.idPedido IN :ids")
+    List<SituacaoPedidoProjecao> findSituacaoByIdIn(Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Pedido p SET p.statusPedido = :destino, p.versao = p.versao + 1 WHERE p.idPedido = :id AND p.statusPedido IN :origens")
+    int transicionarStatus(UUID id, Collection<StatusPedido> origens, StatusPedido destino);
+
+    @Modifying
+    @Query("UPDATE Pedido p SET p.statusPedido = :destino, p.versao = p.versao + 1 WHERE p.idPedido IN :ids AND p.statusPedido = :origem")
+    int transicionarStatusEmLote(Collection<UUID> ids, StatusPedido origem, StatusPedido destino);
+
+    // Ids em binário: só voltam para as cópias e remoções nativas do arquivamento
+    @Query(value = "SELECT id_pedido FROM pedidos WHERE status_pedido IN (:status) AND data_hora < :limite LIMIT :lote FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<byte[]> findIdsParaArquivamento(Collection<String> status, Instant limite, int lote);
+
+    @Modifying
+    @Query(value = "DELETE FROM itens_pedido WHERE pedido_id IN (:ids)", nativeQuery = true)
+    int removerItensArquivados(Collection<byte[]> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM pedidos WHERE id_pedido IN (:ids)", nativeQuery = true)
+    int removerArquivados(Collection<byte[]> ids);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ContagemStatusProjecao(
+                p.statusPedido, COUNT(p),
+                SUM(CASE WHEN p.dataHora >= :desde THEN 1 ELSE 0 END),
+                SUM(CASE WHEN p.dataHora >= :desde THEN p.total ELSE 0 END))
+            FROM Pedido p GROUP BY p.statusPedido""")
+    List<ContagemStatusProjecao> contarPorStatus(Instant desde);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ContagemStatusProjecao(
+                p.statusPedido, COUNT(p),
+                SUM(CASE WHEN p.dataHora >= :desde THEN 1 ELSE 0 END),
+                SUM(CASE WHEN p.dataHora >= :desde THEN p.total ELSE 0 END))
+            FROM Pedido p WHERE p.idPedido IN :ids GROUP BY p.statusPedido""")
+    List<ContagemStatusProjecao> contarPorStatusDosPedidos(Collection<UUID> ids, Instant desde);
+
+    @Query("SELECT DISTINCT p FROM Pedido p LEFT JOIN FETCH p.itens WHERE p.assinatura = :assinatura AND p.statusPedido = :status AND p.dataHora > :data")
+    List<Pedido> findByAssinaturaAndStatusAndDataHoraAfterWithItens(String assinatura, StatusPedido status, Instant data);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao(
+                p.idPedido, p.numero, p.statusPedido, p.dataHora, p.total, p.quantidadeItens)
+            FROM Pedido p ORDER BY p.dataHora, p.idPedido""")
+    List<ResumoPedidoProjecao> findPrimeiraPagina(Limit limite);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao(
+                p.idPedido, p.numero, p.statusPedido, p.dataHora, p.total, p.quantidadeItens)
+            FROM Pedido p WHERE p.dataHora > :dataHora OR (p.dataHora = :dataHora AND p.idPedido > :idPedido)
+            ORDER BY p.dataHora, p.idPedido""")
+    List<ResumoPedidoProjecao> findPaginaApos(Instant dataHora, UUID idPedido, Limit limite);
+
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao(
+                p.idPedido, p.numero, p.statusPedido, p.dataHora, p.total, p.quantidadeItens)
+            FROM Pedido p WHERE p.idPedido IN :ids""")
+    List<ResumoPedidoProjecao> findResumosByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ItemIndexadoProjecao(i.pedido.idPedido, i.nome, i.descricao) FROM ItemPedido i WHERE i.pedido.idPedido IN :ids")
+    List<ItemIndexadoProjecao> findItensIndexadosByIdPedidoIn(Collection<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("""
+            SELECT new io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao(
+                p.idPedido, p.numero, p.statusPedido, p.dataHora, p.total, p.quantidadeItens)
+            FROM Pedido p ORDER BY p.dataHora, p.idPedido""")
+    Stream<ResumoPedidoProjecao> streamResumos();
 
 }
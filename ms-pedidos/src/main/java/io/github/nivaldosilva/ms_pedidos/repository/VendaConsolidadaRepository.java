@@ -0,0 +1,33 @@
+package io.github.nivaldosilva.ms_pedidos.repository;
+
+import io.github.nivaldosilva.ms_pedidos.entity.VendaConsolidada;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.VendaPeriodoProjecao;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public interface VendaConsolidadaRepository extends Repository<VendaConsolidada, VendaConsolidada.Chave> {
+
+    // Soma as linhas de minuto em períodos de :segundos; TIMESTAMPDIFF não depende do fuso da sessão
+    @Query(value = """
+            SELECT FLOOR((TIMESTAMPDIFF(SECOND, '1970-01-01 00:00:00', inicio) + :deslocamento) / :segundos) AS periodo,
+                   status_pedido AS status, SUM(quantidade_pedidos) AS quantidadePedidos, SUM(total) AS total
+            FROM vendas_consolidadas
+            WHERE granularidade = 'MINUTO' AND inicio >= :inicio AND inicio < :fim
+              AND (:status IS NULL OR status_pedido = :status)
+            GROUP BY periodo, status_pedido
+            ORDER BY periodo, status_pedido""", nativeQuery = true)
+    List<VendaPeriodoProjecao> somarMinutos(Instant inicio, Instant fim, long deslocamento, long segundos, String status);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO vendas_consolidadas (granularidade, inicio, status_pedido, quantidade_pedidos, total)
+            VALUES ('MINUTO', :inicio, :status, :quantidade, :total)
+            ON DUPLICATE KEY UPDATE quantidade_pedidos = quantidade_pedidos + VALUES(quantidade_pedidos),
+                                    total = total + VALUES(total)""", nativeQuery = true)
+    void acumular(Instant inicio, String status, long quantidade, BigDecimal total);
+
+}
@@ -0,0 +1,11 @@
+package io.github.nivaldosilva.ms_pedidos.repository.projection;
+
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.math.BigDecimal;
+
+public record ContagemStatusProjecao(
+        StatusPedido statusPedido,
+        Long quantidade,
+        Long quantidadeDesde,
+        BigDecimal totalDesde) {
+}
@@ -0,0 +1,9 @@
+package io.github.nivaldosilva.ms_pedidos.repository.projection;
+
+import java.util.UUID;
+
+public record ItemIndexadoProjecao(
+        UUID idPedido,
+        String nome,
+        String descricao) {
+}
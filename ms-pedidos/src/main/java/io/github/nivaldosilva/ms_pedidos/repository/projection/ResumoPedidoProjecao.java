@@ -0,0 +1,15 @@
+package io.github.nivaldosilva.ms_pedidos.repository.projection;
+
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ResumoPedidoProjecao(
+        UUID idPedido,
+        String numero,
+        StatusPedido statusPedido,
+        Instant dataHora,
+        Dinheiro total,
+        Integer quantidadeItens) {
+}
@@ -0,0 +1,13 @@
+package io.github.nivaldosilva.ms_pedidos.repository.projection;
+
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.time.Instant;
+import java.util.UUID;
+
+public record SituacaoPedidoProjecao(
+        UUID idPedido,
+        StatusPedido statusPedido,
+        Dinheiro total,
+        Instant dataHora) {
+}
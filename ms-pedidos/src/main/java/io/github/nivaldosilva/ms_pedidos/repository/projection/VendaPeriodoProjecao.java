@@ -0,0 +1,16 @@
+package io.github.nivaldosilva.ms_pedidos.repository.projection;
+
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.math.BigDecimal;
+
+// periodo é o número do período desde a época, já deslocado para o fuso da loja
+public interface VendaPeriodoProjecao {
+
+    Long getPeriodo();
+
+    StatusPedido getStatus();
+
+    Long getQuantidadePedidos();
+
+    BigDecimal getTotal();
+}
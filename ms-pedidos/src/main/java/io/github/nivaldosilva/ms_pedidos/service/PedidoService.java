@@ -1,24 +1,41 @@
 package io.github.nivaldosilva.ms_pedidos.service;
 
 import io.github.nivaldosilva.ms_pedidos.dto.AtualizacaoStatus;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoPagina;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface PedidoService {
 
     PedidoResponse criarPedido(PedidoRequest request);
 
+    LotePedidosResponse importarLote(List<PedidoRequest> requests);
+
     PedidoResponse obterPorId(UUID id);
 
-    List<PedidoResumo> listarTodos();
+    Long obterVersao(UUID id);
+
+    PedidoResumo obterResumo(UUID id);
+
+    PedidoPagina listarTodos(String cursor, int limite);
+
+    void transmitirResumos(Consumer<PedidoResumo> consumidor);
+
+    List<PedidoResumo> buscarPorItens(String consulta, int limite);
 
     PedidoResponse atualizarPedido(UUID id, PedidoRequest request);
 
     void atualizarStatus(UUID id, AtualizacaoStatus statusDTO);
 
+    LoteAtualizacaoStatusResponse atualizarStatusEmLote(List<LoteAtualizacaoStatusRequest.ItemAtualizacao> atualizacoes);
+
     void aprovarPagamento(UUID id);
 
     void cancelarPedido(UUID id);
@@ -0,0 +1,12 @@
+package io.github.nivaldosilva.ms_pedidos.service;
+
+import io.github.nivaldosilva.ms_pedidos.dto.RelatorioVendasResponse;
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import java.time.Instant;
+
+public interface RelatorioVendasService {
+
+    RelatorioVendasResponse consultarVendas(GranularidadeRelatorio granularidade, Instant inicio, Instant fim, StatusPedido status);
+
+}
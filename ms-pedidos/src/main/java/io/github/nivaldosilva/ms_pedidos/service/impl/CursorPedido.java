@@ -0,0 +1,35 @@
+package io.github.nivaldosilva.ms_pedidos.service.impl;
+
+import io.github.nivaldosilva.ms_pedidos.exception.BusinessException;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+record CursorPedido(Instant dataHora, UUID idPedido) {
+
+    private static final String SEPARADOR = "|";
+
+    static CursorPedido de(ResumoPedidoProjecao resumo) {
+        return new CursorPedido(resumo.dataHora(), resumo.idPedido());
+    }
+
+    static CursorPedido decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new CursorPedido(
+                    Instant.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    String codificar() {
+        String valor = dataHora + SEPARADOR + idPedido;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
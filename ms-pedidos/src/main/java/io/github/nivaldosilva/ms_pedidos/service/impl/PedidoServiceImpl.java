@@ -1,41 +1,83 @@
 package io.github.nivaldosilva.ms_pedidos.service.impl;
 
+import io.github.nivaldosilva.ms_pedidos.busca.IndiceItensPedido;
+import io.github.nivaldosilva.ms_pedidos.cache.config.CacheConfiguration;
+import io.github.nivaldosilva.ms_pedidos.dinheiro.Dinheiro;
 import io.github.nivaldosilva.ms_pedidos.dto.AtualizacaoStatus;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoPagina;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResponse;
 import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
+import io.github.nivaldosilva.ms_pedidos.duplicidade.AssinaturaPedido;
+import io.github.nivaldosilva.ms_pedidos.duplicidade.JanelaAssinaturas;
 import io.github.nivaldosilva.ms_pedidos.entity.ItemPedido;
 import io.github.nivaldosilva.ms_pedidos.entity.Pedido;
 import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.event.ItensPedidoAlteradosEvent;
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
+import io.github.nivaldosilva.ms_pedidos.event.TotalPedidoAlteradoEvent;
 import io.github.nivaldosilva.ms_pedidos.exception.BusinessException;
 import io.github.nivaldosilva.ms_pedidos.exception.ResourceNotFoundException;
 import io.github.nivaldosilva.ms_pedidos.mapper.PedidoMapper;
+import io.github.nivaldosilva.ms_pedidos.repository.PedidoArquivadoRepository;
 import io.github.nivaldosilva.ms_pedidos.repository.PedidoRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.ResumoPedidoProjecao;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.SituacaoPedidoProjecao;
 import io.github.nivaldosilva.ms_pedidos.service.PedidoService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.transaction.annotation.Transactional;
-import java.math.BigDecimal;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PedidoServiceImpl implements PedidoService {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 200;
+    private static final int TAMANHO_BLOCO_LOTE = 50;
+
     private final PedidoRepository repository;
+    private final PedidoArquivadoRepository arquivoRepository;
+    private final EntityManager entityManager;
+    private final JanelaAssinaturas janelaAssinaturas;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IndiceItensPedido indiceItens;
 
     @Override
     @Transactional
     public PedidoResponse criarPedido(PedidoRequest request) {
         log.info("Iniciando criação de pedido");
 
-        Pedido pedidoDuplicado = verificarPedidoDuplicado(request);
+        String assinatura = AssinaturaPedido.calcular(request.getItens());
+
+        Pedido pedidoDuplicado = verificarPedidoDuplicado(assinatura);
         if (pedidoDuplicado != null) {
             log.warn("Pedido duplicado detectado! Retornando pedido existente: {}",
                     pedidoDuplicado.getIdPedido());
@@ -44,41 +86,158 @@ public class PedidoServiceImpl implements PedidoService {
 
         Pedido pedido = PedidoMapper.toEntity(request);
         pedido.setStatusPedido(StatusPedido.REALIZADO);
+        pedido.setAssinatura(assinatura);
         Pedido pedidoSalvo = repository.save(pedido);
-
-        log.info("Gerando o número do pedido: {}", pedidoSalvo.getIdPedido());
-        repository.flush();
-        String idStr = pedidoSalvo.getIdPedido().toString().replace("-", "");
-        pedidoSalvo.setNumero("#" + idStr.substring(Math.max(0, idStr.length() - 5)).toUpperCase());
-        pedidoSalvo = repository.save(pedidoSalvo);
+        janelaAssinaturas.registrar(assinatura, pedidoSalvo.getIdPedido(), pedidoSalvo.getDataHora());
+        publicarCriacao(pedidoSalvo);
 
         log.info("Pedido criado com sucesso: {}", pedidoSalvo.getIdPedido());
         return PedidoMapper.toResponse(pedidoSalvo);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
+    public LotePedidosResponse importarLote(List<PedidoRequest> requests) {
+        log.info("Importando lote de {} pedidos", requests.size());
+
+        List<PedidoResumo> resumos = new ArrayList<>(requests.size());
+        for (int inicio = 0; inicio < requests.size(); inicio += TAMANHO_BLOCO_LOTE) {
+            List<Pedido> bloco = requests.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_LOTE, requests.size()))
+                    .stream()
+                    .map(request -> {
+                        Pedido pedido = PedidoMapper.toEntity(request);
+                        pedido.setAssinatura(AssinaturaPedido.calcular(request.getItens()));
+                        return pedido;
+                    })
+                    .collect(Collectors.toList());
+
+            repository.saveAll(bloco);
+            // Envia o bloco em INSERTs agrupados e libera o contexto de persistência
+            entityManager.flush();
+            entityManager.clear();
+
+            bloco.forEach(pedido -> {
+                janelaAssinaturas.registrar(pedido.getAssinatura(), pedido.getIdPedido(), pedido.getDataHora());
+                publicarCriacao(pedido);
+                resumos.add(PedidoMapper.toResumo(pedido));
+            });
+        }
+
+        log.info("Lote importado com sucesso: {} pedidos", resumos.size());
+        return LotePedidosResponse.builder()
+                .quantidadePedidos(resumos.size())
+                .pedidos(resumos)
+                .build();
+    }
+
+    // Sem readOnly para ler do primário: o valor fica em cache por mais tempo que o atraso tolerado da réplica.
+    // Sem sync: o Caffeine rodaria a consulta dentro do compute do mapa, travando a thread portadora da thread virtual
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfiguration.PEDIDOS, key = "#id")
     public PedidoResponse obterPorId(UUID id) {
         log.info("Buscando pedido: {}", id);
 
-        Pedido pedido = repository.findByIdWithItens(id)
+        Optional<Pedido> pedido = repository.findByIdWithItens(id);
+        if (pedido.isPresent()) {
+            return PedidoMapper.toResponse(pedido.get());
+        }
+
+        return arquivoRepository.findByIdWithItens(id)
+                .map(PedidoMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado: " + id));
+    }
 
-        return PedidoMapper.toResponse(pedido);
+    // Também no primário: uma versão atrasada da réplica confirmaria com 304 um conteúdo desatualizado
+    @Override
+    @Transactional
+    public Long obterVersao(UUID id) {
+        // Com o pedido no cache a conexão nem é aberta; senão basta uma coluna, sem itens
+        Cache.ValueWrapper emCache = cacheManager.getCache(CacheConfiguration.PEDIDOS).get(id);
+        if (emCache != null) {
+            return ((PedidoResponse) emCache.get()).getVersao();
+        }
+
+        return repository.findVersaoById(id)
+                .or(() -> arquivoRepository.findVersaoById(id))
+                .orElse(null);
+    }
+
+    // Fora do cache: quem acompanha eventos precisa do que já foi confirmado, não do que ainda espera invalidação
+    @Override
+    @Transactional
+    public PedidoResumo obterResumo(UUID id) {
+        return repository.findResumosByIdIn(List.of(id)).stream().findFirst()
+                .or(() -> arquivoRepository.findResumosByIdIn(List.of(id)).stream().findFirst())
+                .map(PedidoMapper::toResumo)
+                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PedidoPagina listarTodos(String cursor, int limite) {
+        int tamanhoPagina = Math.min(Math.max(limite, 1), TAMANHO_MAXIMO_PAGINA);
+        log.info("Listando pedidos - cursor: {}, limite: {}", cursor, tamanhoPagina);
+
+        Limit consulta = Limit.of(tamanhoPagina + 1);
+        List<ResumoPedidoProjecao> pedidos;
+        if (cursor == null || cursor.isBlank()) {
+            pedidos = repository.findPrimeiraPagina(consulta);
+        } else {
+            CursorPedido posicao = CursorPedido.decodificar(cursor);
+            pedidos = repository.findPaginaApos(posicao.dataHora(), posicao.idPedido(), consulta);
+        }
+
+        boolean possuiProxima = pedidos.size() > tamanhoPagina;
+        List<ResumoPedidoProjecao> pagina = possuiProxima ? pedidos.subList(0, tamanhoPagina) : pedidos;
+
+        return PedidoPagina.builder()
+                .pedidos(pagina.stream()
+                        .map(PedidoMapper::toResumo)
+                        .collect(Collectors.toList()))
+                .proximoCursor(possuiProxima ? CursorPedido.de(pagina.get(pagina.size() - 1)).codificar() : null)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PedidoResumo> listarTodos() {
-        log.info("Listando todos os pedidos");
+    public void transmitirResumos(Consumer<PedidoResumo> consumidor) {
+        log.info("Transmitindo resumo de todos os pedidos");
+
+        try (Stream<ResumoPedidoProjecao> resumos = repository.streamResumos()) {
+            resumos.map(PedidoMapper::toResumo).forEach(consumidor);
+        }
+    }
 
-        return repository.findAll().stream()
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResumo> buscarPorItens(String consulta, int limite) {
+        int quantidade = Math.min(Math.max(limite, 1), TAMANHO_MAXIMO_PAGINA);
+        log.info("Buscando pedidos por itens - consulta: {}, limite: {}", consulta, quantidade);
+
+        List<UUID> ids = indiceItens.buscar(consulta, quantidade);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // O índice cobre também pedidos já arquivados; só os que faltam são procurados no arquivo
+        Map<UUID, ResumoPedidoProjecao> resumos = new HashMap<>();
+        repository.findResumosByIdIn(ids).forEach(resumo -> resumos.put(resumo.idPedido(), resumo));
+        if (resumos.size() < ids.size()) {
+            arquivoRepository.findResumosByIdIn(ids.stream().filter(id -> !resumos.containsKey(id)).toList())
+                    .forEach(resumo -> resumos.put(resumo.idPedido(), resumo));
+        }
+
+        return ids.stream()
+                .map(resumos::get)
+                .filter(Objects::nonNull)
                 .map(PedidoMapper::toResumo)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.PEDIDOS, key = "#id")
     public PedidoResponse atualizarPedido(UUID id, PedidoRequest request) {
         log.info("Atualizando pedido: {}", id);
 
@@ -89,164 +248,223 @@ public class PedidoServiceImpl implements PedidoService {
             throw new BusinessException("Apenas pedidos com status 'REALIZADO' podem ser alterados");
         }
 
+        Dinheiro totalAnterior = pedido.getTotal();
         pedido.getItens().clear();
         pedido.setObservacao(request.getObservacoes());
+        pedido.setAssinatura(AssinaturaPedido.calcular(request.getItens()));
 
         request.getItens().forEach(itemRequest -> {
             ItemPedido item = ItemPedido.builder()
                     .nome(itemRequest.getNome())
                     .descricao(itemRequest.getDescricao())
-                    .precoUnitario(itemRequest.getPrecoUnitario())
+                    .precoUnitario(Dinheiro.de(itemRequest.getPrecoUnitario()))
                     .quantidade(itemRequest.getQuantidade())
                     .observacao(itemRequest.getObservacao())
                     .build();
             pedido.adicionarItem(item);
         });
+        pedido.recalcularTotais();
+        publicarItens(pedido);
+        if (!pedido.getTotal().equals(totalAnterior)) {
+            eventPublisher.publishEvent(
+                    new TotalPedidoAlteradoEvent(id, pedido.getStatusPedido(), totalAnterior, pedido.getTotal(), pedido.getDataHora()));
+        }
 
-        Pedido pedidoAtualizado = repository.save(pedido);
         log.info("Pedido atualizado com sucesso: {}", id);
 
-        return PedidoMapper.toResponse(pedidoAtualizado);
+        return PedidoMapper.toResponse(pedido);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.PEDIDOS, key = "#id")
     public void aprovarPagamento(UUID id) {
-        log.info("==========================================");
-        log.info("Iniciando aprovação de pagamento");
-        log.info("ID do Pedido: {}", id);
-        log.info("==========================================");
-
-        Pedido pedido = repository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("ERRO: Pedido não encontrado: {}", id);
-                    return new ResourceNotFoundException("Pedido não encontrado: " + id);
-                });
-
-        log.info("Pedido encontrado!");
-        log.info("Status atual: {}", pedido.getStatusPedido());
-        log.info("ID: {}", pedido.getIdPedido());
-
-        if (pedido.getStatusPedido() != StatusPedido.REALIZADO) {
-            log.error("ERRO: Status inválido para aprovação de pagamento");
-            log.error("Status esperado: REALIZADO");
-            log.error("Status atual: {}", pedido.getStatusPedido());
-            throw new BusinessException(
-                    "Não é possível aprovar o pagamento de um pedido que não esteja com o status 'REALIZADO'. Status atual: "
-                            + pedido.getStatusPedido());
-        }
-
-        log.info("Validação de status OK! Atualizando para PAGO...");
+        log.info("Aprovando pagamento do pedido: {}", id);
 
-        pedido.setStatusPedido(StatusPedido.PAGO);
-        Pedido pedidoSalvo = repository.save(pedido);
+        transicionar(id, StatusPedido.PAGO,
+                "Não é possível aprovar o pagamento de um pedido que não esteja com o status 'REALIZADO'");
 
-        log.info("Pedido salvo no banco de dados!");
-        log.info("Novo status: {}", pedidoSalvo.getStatusPedido());
-        log.info("==========================================");
         log.info("Pagamento do pedido {} aprovado com sucesso!", id);
-        log.info("==========================================");
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.PEDIDOS, key = "#id")
     public void atualizarStatus(UUID id, AtualizacaoStatus status) {
         log.info("Atualizando status do pedido: {} para {}", id, status.getStatus());
 
-        Pedido pedido = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado: " + id));
-
-        if (pedido.getStatusPedido() == StatusPedido.CANCELADO ||
-                pedido.getStatusPedido() == StatusPedido.ENTREGUE) {
-            throw new BusinessException(
-                    "Não é possível alterar o status de um pedido que já foi entregue ou cancelado");
-        }
-
-        pedido.setStatusPedido(status.getStatus());
-        repository.save(pedido);
+        transicionar(id, status.getStatus(),
+                "Transição de status inválida para " + status.getStatus());
 
         log.info("Status atualizado com sucesso");
     }
 
     @Override
     @Transactional
-    public void cancelarPedido(UUID id) {
-        log.info("Cancelando pedido: {}", id);
+    public LoteAtualizacaoStatusResponse atualizarStatusEmLote(
+            List<LoteAtualizacaoStatusRequest.ItemAtualizacao> atualizacoes) {
+        Map<UUID, StatusPedido> destinos = new LinkedHashMap<>();
+        atualizacoes.forEach(atualizacao -> destinos.put(atualizacao.getIdPedido(), atualizacao.getStatus()));
+        log.info("Atualizando status de {} pedidos em lote", destinos.size());
+
+        Map<UUID, SituacaoPedidoProjecao> situacoes = repository.findSituacaoByIdIn(destinos.keySet()).stream()
+                .collect(Collectors.toMap(SituacaoPedidoProjecao::idPedido, Function.identity()));
+
+        Map<UUID, LoteAtualizacaoStatusResponse.Resultado> resultados = new LinkedHashMap<>();
+        Map<Transicao, List<UUID>> idsPorTransicao = new HashMap<>();
+        destinos.forEach((id, destino) -> {
+            SituacaoPedidoProjecao situacao = situacoes.get(id);
+            if (situacao == null) {
+                resultados.put(id, recusado(id, null, "Pedido não encontrado: " + id));
+            } else if (!situacao.statusPedido().permiteTransicaoPara(destino)) {
+                resultados.put(id, recusado(id, situacao.statusPedido(),
+                        "Transição de status inválida: " + situacao.statusPedido() + " -> " + destino));
+            } else {
+                resultados.put(id, LoteAtualizacaoStatusResponse.Resultado.builder()
+                        .idPedido(id)
+                        .atualizado(true)
+                        .statusAnterior(situacao.statusPedido())
+                        .status(destino)
+                        .build());
+                idsPorTransicao.computeIfAbsent(new Transicao(situacao.statusPedido(), destino),
+                        chave -> new ArrayList<>()).add(id);
+            }
+        });
 
-        Pedido pedido = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado: " + id));
+        Cache cache = new TransactionAwareCacheDecorator(cacheManager.getCache(CacheConfiguration.PEDIDOS));
+        idsPorTransicao.forEach((transicao, ids) -> {
+            int alterados = repository.transicionarStatusEmLote(ids, transicao.origem(), transicao.destino());
+            if (alterados < ids.size()) {
+                // Algum pedido mudou de status entre a leitura e o UPDATE
+                repository.findSituacaoByIdIn(ids).stream()
+                        .filter(situacao -> situacao.statusPedido() != transicao.destino())
+                        .forEach(situacao -> resultados.put(situacao.idPedido(), recusado(situacao.idPedido(),
+                                situacao.statusPedido(), "Status do pedido alterado por outra requisição")));
+            }
+            ids.forEach(cache::evict);
+        });
 
-        if (pedido.getStatusPedido() == StatusPedido.ENTREGUE ||
-                pedido.getStatusPedido() == StatusPedido.CANCELADO) {
-            throw new BusinessException(
-                    "Não é possível cancelar um pedido que já foi entregue ou previamente cancelado");
-        }
+        Instant agora = Instant.now();
+        resultados.values().stream()
+                .filter(LoteAtualizacaoStatusResponse.Resultado::isAtualizado)
+                .forEach(resultado -> {
+                    SituacaoPedidoProjecao situacao = situacoes.get(resultado.getIdPedido());
+                    eventPublisher.publishEvent(new StatusPedidoAlteradoEvent(resultado.getIdPedido(),
+                            resultado.getStatusAnterior(), resultado.getStatus(), situacao.total(),
+                            situacao.dataHora(), agora));
+                });
 
-        pedido.setStatusPedido(StatusPedido.CANCELADO);
-        repository.save(pedido);
+        List<LoteAtualizacaoStatusResponse.Resultado> lista = new ArrayList<>(resultados.values());
+        int atualizados = (int) lista.stream().filter(LoteAtualizacaoStatusResponse.Resultado::isAtualizado).count();
+        log.info("Status atualizado em lote: {} alterados, {} recusados", atualizados, lista.size() - atualizados);
 
-        log.info("Pedido cancelado com sucesso: {}", id);
+        return LoteAtualizacaoStatusResponse.builder()
+                .atualizados(atualizados)
+                .recusados(lista.size() - atualizados)
+                .resultados(lista)
+                .build();
     }
 
-    private Pedido verificarPedidoDuplicado(PedidoRequest request) {
-        Instant tresMinutosAtras = Instant.now().minus(3, ChronoUnit.MINUTES);
-
-        log.debug("Verificando pedidos duplicados após: {}", tresMinutosAtras);
-
-        List<Pedido> pedidosRecentes = repository.findByStatusAndDataHoraAfterWithItens(StatusPedido.REALIZADO,
-                tresMinutosAtras);
-
-        log.debug("Encontrados {} pedidos recentes", pedidosRecentes.size());
-
-        BigDecimal totalNovo = calcularTotalRequest(request);
-        int quantidadeItensNovo = request.getItens().size();
-
-        log.debug("Novo pedido - Total: {}, Itens: {}", totalNovo, quantidadeItensNovo);
-
-        for (Pedido pedidoExistente : pedidosRecentes) {
-            BigDecimal totalExistente = pedidoExistente.calcularTotal();
-            int quantidadeItensExistente = pedidoExistente.getItens().size();
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.PEDIDOS, key = "#id")
+    public void cancelarPedido(UUID id) {
+        log.info("Cancelando pedido: {}", id);
 
-            log.debug("Comparando com pedido {} - Total: {}, Itens: {}",
-                    pedidoExistente.getIdPedido(), totalExistente, quantidadeItensExistente);
+        transicionar(id, StatusPedido.CANCELADO,
+                "Não é possível cancelar um pedido que já foi entregue ou previamente cancelado");
 
-            if (quantidadeItensExistente == quantidadeItensNovo &&
-                    totalExistente.compareTo(totalNovo) == 0) {
+        log.info("Pedido cancelado com sucesso: {}", id);
+    }
 
-                if (compararItens(pedidoExistente, request)) {
-                    log.warn("DUPLICADO ENCONTRADO! Pedido: {}", pedidoExistente.getIdPedido());
-                    return pedidoExistente;
-                }
+    // Com uma única origem possível, o UPDATE condicional decide sozinho e o status anterior é conhecido; a leitura
+    // seguinte só busca total e data para o evento, numa linha que o próprio UPDATE já mantém travada.
+    // CANCELADO e EM_PREPARO têm várias origens: a linha é lida com trava antes, para saber de qual status saiu.
+    private void transicionar(UUID id, StatusPedido destino, String mensagemTransicaoInvalida) {
+        Set<StatusPedido> origens = StatusPedido.origensPara(destino);
+        StatusPedido anterior;
+        SituacaoPedidoProjecao situacao;
+        if (origens.size() == 1) {
+            if (repository.transicionarStatus(id, origens, destino) == 0) {
+                throw transicaoRecusada(id, destino, mensagemTransicaoInvalida);
             }
+            anterior = origens.iterator().next();
+            situacao = repository.findSituacaoById(id).orElseThrow();
+        } else {
+            situacao = repository.findSituacaoByIdParaAtualizacao(id)
+                    .filter(travada -> travada.statusPedido().permiteTransicaoPara(destino))
+                    .orElseThrow(() -> transicaoRecusada(id, destino, mensagemTransicaoInvalida));
+            repository.transicionarStatus(id, origens, destino);
+            anterior = situacao.statusPedido();
         }
 
-        log.debug("Nenhum pedido duplicado encontrado");
-        return null;
+        eventPublisher.publishEvent(new StatusPedidoAlteradoEvent(id, anterior, destino, situacao.total(),
+                situacao.dataHora(), Instant.now()));
     }
 
-    private BigDecimal calcularTotalRequest(PedidoRequest request) {
-        return request.getItens().stream()
-                .map(item -> item.getPrecoUnitario().multiply(new BigDecimal(item.getQuantidade())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private RuntimeException transicaoRecusada(UUID id, StatusPedido destino, String mensagemTransicaoInvalida) {
+        StatusPedido atual = repository.findSituacaoById(id)
+                .map(SituacaoPedidoProjecao::statusPedido)
+                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado: " + id));
+        log.warn("Transição de status recusada para o pedido {}: {} -> {}", id, atual, destino);
+        return new BusinessException(mensagemTransicaoInvalida + ". Status atual: " + atual);
     }
 
-    private boolean compararItens(Pedido existente, PedidoRequest novo) {
-        List<String> assinaturasExistentes = existente.getItens().stream()
-                .map(item -> item.getNome() + "|" + item.getQuantidade() + "|" + item.getPrecoUnitario())
-                .sorted()
-                .collect(Collectors.toList());
+    private void publicarCriacao(Pedido pedido) {
+        eventPublisher.publishEvent(new StatusPedidoAlteradoEvent(pedido.getIdPedido(), null,
+                pedido.getStatusPedido(), pedido.getTotal(), pedido.getDataHora(), pedido.getDataHora()));
+        publicarItens(pedido);
+    }
 
-        List<String> assinaturasNovas = novo.getItens().stream()
-                .map(item -> item.getNome() + "|" + item.getQuantidade() + "|" + item.getPrecoUnitario())
-                .sorted()
-                .collect(Collectors.toList());
+    private void publicarItens(Pedido pedido) {
+        List<String> textos = new ArrayList<>(pedido.getItens().size() * 2);
+        pedido.getItens().forEach(item -> {
+            textos.add(item.getNome());
+            textos.add(item.getDescricao());
+        });
+        eventPublisher.publishEvent(new ItensPedidoAlteradosEvent(pedido.getIdPedido(), pedido.getDataHora(), textos));
+    }
 
-        boolean iguais = assinaturasExistentes.equals(assinaturasNovas);
+    private LoteAtualizacaoStatusResponse.Resultado recusado(UUID id, StatusPedido atual, String mensagem) {
+        return LoteAtualizacaoStatusResponse.Resultado.builder()
+                .idPedido(id)
+                .atualizado(false)
+                .statusAnterior(atual)
+                .status(atual)
+                .mensagem(mensagem)
+                .build();
+    }
+
+    private record Transicao(StatusPedido origem, StatusPedido destino) {
+    }
 
-        if (iguais) {
-            log.debug("Itens são idênticos!");
+    private Pedido verificarPedidoDuplicado(String assinatura) {
+        Optional<UUID> idRecente = janelaAssinaturas.buscar(assinatura);
+        if (idRecente.isPresent()) {
+            log.debug("Assinatura encontrada na janela local, pedido candidato: {}", idRecente.get());
+
+            Pedido candidato = repository.findByIdWithItens(idRecente.get())
+                    .filter(pedido -> pedido.getStatusPedido() == StatusPedido.REALIZADO)
+                    .filter(pedido -> assinatura.equals(pedido.getAssinatura()))
+                    .orElse(null);
+            if (candidato == null) {
+                janelaAssinaturas.remover(assinatura);
+            }
+            return candidato;
         }
 
-        return iguais;
+        Instant inicioJanela = Instant.now().minus(janelaAssinaturas.getDuracao());
+        log.debug("Verificando pedidos duplicados após: {}", inicioJanela);
+
+        Pedido existente = repository.findByAssinaturaAndStatusAndDataHoraAfterWithItens(assinatura,
+                StatusPedido.REALIZADO, inicioJanela).stream()
+                .findFirst()
+                .orElse(null);
+        if (existente != null) {
+            janelaAssinaturas.registrar(assinatura, existente.getIdPedido(), existente.getDataHora());
+        } else {
+            log.debug("Nenhum pedido duplicado encontrado");
+        }
+        return existente;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package io.github.nivaldosilva.ms_pedidos.service.impl;
+
+import io.github.nivaldosilva.ms_pedidos.dto.RelatorioVendasResponse;
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.exception.BusinessException;
+import io.github.nivaldosilva.ms_pedidos.repository.VendaConsolidadaRepository;
+import io.github.nivaldosilva.ms_pedidos.repository.projection.VendaPeriodoProjecao;
+import io.github.nivaldosilva.ms_pedidos.service.RelatorioVendasService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+public class RelatorioVendasServiceImpl implements RelatorioVendasService {
+
+    private static final Comparator<PeriodoStatus> ORDEM_PERIODOS = Comparator
+            .comparing(PeriodoStatus::inicio)
+            .thenComparing(periodo -> periodo.status().name());
+
+    private final VendaConsolidadaRepository repository;
+    private final ZoneId fuso;
+    private final int maximoPeriodos;
+
+    public RelatorioVendasServiceImpl(VendaConsolidadaRepository repository,
+            @Value("${pedidos.fuso:America/Sao_Paulo}") ZoneId fuso,
+            @Value("${pedidos.relatorios.maximo-periodos:1500}") int maximoPeriodos) {
+        this.repository = repository;
+        this.fuso = fuso;
+        this.maximoPeriodos = maximoPeriodos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RelatorioVendasResponse consultarVendas(GranularidadeRelatorio granularidade, Instant inicio, Instant fim,
+            StatusPedido status) {
+        if (!fim.isAfter(inicio)) {
+            throw new BusinessException("O fim do intervalo deve ser posterior ao início");
+        }
+        Instant inicioAlinhado = granularidade.inicioDoPeriodo(inicio, fuso);
+        if (granularidade.quantidadePeriodos(inicioAlinhado, fim) > maximoPeriodos) {
+            throw new BusinessException("Intervalo muito longo para a granularidade " + granularidade
+                    + ": máximo de " + maximoPeriodos + " períodos");
+        }
+        log.info("Consultando vendas por {} de {} a {}", granularidade, inicioAlinhado, fim);
+
+        Map<PeriodoStatus, RelatorioVendasResponse.Periodo> periodos = new TreeMap<>(ORDEM_PERIODOS);
+        somarMinutos(granularidade, inicioAlinhado, fim, status).forEach(venda -> periodos.merge(
+                new PeriodoStatus(venda.getInicio(), venda.getStatus()), venda, RelatorioVendasServiceImpl::somar));
+
+        return RelatorioVendasResponse.builder()
+                .granularidade(granularidade)
+                .inicio(inicioAlinhado)
+                .fim(fim)
+                .periodos(periodos.values().stream()
+                        .filter(venda -> venda.getQuantidadePedidos() > 0)
+                        .toList())
+                .build();
+    }
+
+    // Um trecho por deslocamento do fuso: dentro dele, cada período é um intervalo fixo de segundos desde a época
+    private List<RelatorioVendasResponse.Periodo> somarMinutos(GranularidadeRelatorio granularidade, Instant inicio,
+            Instant fim, StatusPedido status) {
+        List<RelatorioVendasResponse.Periodo> vendas = new ArrayList<>();
+        long segundos = granularidade.getUnidade().getDuration().toSeconds();
+        Instant inicioTrecho = inicio;
+        while (inicioTrecho.isBefore(fim)) {
+            ZoneOffsetTransition transicao = fuso.getRules().nextTransition(inicioTrecho);
+            Instant fimTrecho = transicao == null || transicao.getInstant().isAfter(fim) ? fim : transicao.getInstant();
+            long deslocamento = fuso.getRules().getOffset(inicioTrecho).getTotalSeconds();
+
+            for (VendaPeriodoProjecao venda : repository.somarMinutos(inicioTrecho, fimTrecho, deslocamento, segundos,
+                    status != null ? status.name() : null)) {
+                // O período pode começar antes do trecho quando o deslocamento muda no meio dele
+                Instant inicioPeriodo = Instant.ofEpochSecond(venda.getPeriodo() * segundos - deslocamento);
+                vendas.add(RelatorioVendasResponse.Periodo.builder()
+                        .inicio(granularidade.inicioDoPeriodo(max(inicioPeriodo, inicioTrecho), fuso))
+                        .status(venda.getStatus())
+                        .quantidadePedidos(venda.getQuantidadePedidos())
+                        .total(venda.getTotal())
+                        .build());
+            }
+            inicioTrecho = fimTrecho;
+        }
+        return vendas;
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static RelatorioVendasResponse.Periodo somar(RelatorioVendasResponse.Periodo a,
+            RelatorioVendasResponse.Periodo b) {
+        return RelatorioVendasResponse.Periodo.builder()
+                .inicio(a.getInicio())
+                .status(a.getStatus())
+                .quantidadePedidos(a.getQuantidadePedidos() + b.getQuantidadePedidos())
+                .total(a.getTotal().add(b.getTotal()))
+                .build();
+    }
+
+    private record PeriodoStatus(Instant inicio, StatusPedido status) {
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.nivaldosilva.ms_pedidos.sse;
+
+import io.github.nivaldosilva.ms_pedidos.event.StatusPedidoAlteradoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Cada assinante tem fila e escritor próprios: quem publica só enfileira, na ordem dos commits,
+// e um cliente lento enche a sua fila sem atrasar os demais
+@Slf4j
+@Component
+public class EmissoresStatusPedido {
+
+    private static final String NOME_EVENTO = "status";
+
+    private final long timeout;
+    private final int capacidadeFila;
+    private final ExecutorService escritores = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, Set<Assinante>> assinantesPorPedido = new ConcurrentHashMap<>();
+    private final Set<Assinante> assinantesLoja = ConcurrentHashMap.newKeySet();
+
+    public EmissoresStatusPedido(
+            @Value("${pedidos.eventos.timeout:30m}") Duration timeout,
+            @Value("${pedidos.eventos.fila:64}") int capacidadeFila) {
+        this.timeout = timeout.toMillis();
+        this.capacidadeFila = capacidadeFila;
+    }
+
+    // Assina antes de ler a situação: uma transição que chegue no meio já está na fila e vence a leitura
+    public SseEmitter assinarPedido(UUID idPedido, Supplier<StatusPedidoAlteradoEvent> situacaoAtual) {
+        Assinante assinante = new Assinante();
+        assinantesPorPedido.computeIfAbsent(idPedido, id -> ConcurrentHashMap.newKeySet()).add(assinante);
+        Runnable remover = () -> assinantesPorPedido.computeIfPresent(idPedido, (id, assinantes) -> {
+            assinantes.remove(assinante);
+            return assinantes.isEmpty() ? null : assinantes;
+        });
+        assinante.aoEncerrar(remover);
+
+        try {
+            assinante.enfileirarSituacao(evento(situacaoAtual.get()));
+        } catch (RuntimeException e) {
+            remover.run();
+            throw e;
+        }
+        return assinante.emissor;
+    }
+
+    public SseEmitter assinarLoja() {
+        Assinante assinante = new Assinante();
+        assinantesLoja.add(assinante);
+        assinante.aoEncerrar(() -> assinantesLoja.remove(assinante));
+        return assinante.emissor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarStatus(StatusPedidoAlteradoEvent evento) {
+        SseEmitter.SseEventBuilder mensagem = evento(evento);
+        Set<Assinante> assinantes = assinantesPorPedido.get(evento.idPedido());
+        if (assinantes != null) {
+            assinantes.forEach(assinante -> assinante.enfileirar(mensagem));
+        }
+        assinantesLoja.forEach(assinante -> assinante.enfileirar(mensagem));
+    }
+
+    // O agendador só enfileira; quem já tem escrita pendente não precisa de heartbeat
+    @Scheduled(fixedRateString = "${pedidos.eventos.heartbeat:25s}")
+    public void enviarHeartbeat() {
+        assinantesLoja.forEach(Assinante::enfileirarHeartbeat);
+        assinantesPorPedido.values().forEach(assinantes -> assinantes.forEach(Assinante::enfileirarHeartbeat));
+    }
+
+    private static SseEmitter.SseEventBuilder evento(StatusPedidoAlteradoEvent evento) {
+        return SseEmitter.event().name(NOME_EVENTO).data(evento, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Assinante {
+
+        private final SseEmitter emissor = new SseEmitter(timeout);
+        private final Queue<SseEmitter.SseEventBuilder> pendentes = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean escrevendo;
+        private boolean recebeuEvento;
+        private boolean encerrado;
+
+        void aoEncerrar(Runnable remover) {
+            Runnable encerrar = () -> {
+                descartarPendentes();
+                remover.run();
+            };
+            emissor.onCompletion(encerrar);
+            emissor.onTimeout(encerrar);
+            emissor.onError(erro -> encerrar.run());
+        }
+
+        void enfileirar(SseEmitter.SseEventBuilder mensagem) {
+            lock.lock();
+            try {
+                if (encerrado) {
+                    return;
+                }
+                recebeuEvento = true;
+                if (pendentes.size() >= capacidadeFila) {
+                    // Sem espaço, o cliente perderia transições; melhor encerrar e deixá-lo reconectar
+                    log.debug("Assinante de eventos não acompanha o ritmo, encerrando a conexão");
+                    encerrado = true;
+                    pendentes.clear();
+                    emissor.complete();
+                    return;
+                }
+                agendar(mensagem);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Se uma transição já entrou na fila, a situação lida depois dela pode vir de um cache ainda não invalidado
+        void enfileirarSituacao(SseEmitter.SseEventBuilder mensagem) {
+            lock.lock();
+            try {
+                if (!encerrado && !recebeuEvento) {
+                    agendar(mensagem);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void enfileirarHeartbeat() {
+            lock.lock();
+            try {
+                if (!encerrado && !escrevendo) {
+                    agendar(SseEmitter.event().comment("heartbeat"));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void agendar(SseEmitter.SseEventBuilder mensagem) {
+            pendentes.add(mensagem);
+            if (!escrevendo) {
+                escrevendo = true;
+                escritores.execute(this::escrever);
+            }
+        }
+
+        private void escrever() {
+            while (true) {
+                SseEmitter.SseEventBuilder mensagem;
+                lock.lock();
+                try {
+                    mensagem = pendentes.poll();
+                    if (mensagem == null || encerrado) {
+                        escrevendo = false;
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    emissor.send(mensagem);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Assinante de eventos desconectado: {}", e.getMessage());
+                    descartarPendentes();
+                    emissor.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private void descartarPendentes() {
+            lock.lock();
+            try {
+                encerrado = true;
+                pendentes.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
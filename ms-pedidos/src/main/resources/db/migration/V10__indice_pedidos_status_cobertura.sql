@@ -0,0 +1,4 @@
+-- Cobre também a agregação do painel (status, data e total) sem ler as linhas da tabela
+DROP INDEX idx_pedidos_status_data_hora ON pedidos;
+
+CREATE INDEX idx_pedidos_status_data_hora_total ON pedidos (status_pedido, data_hora, total);
@@ -0,0 +1,2 @@
+ALTER TABLE pedidos_arquivo
+  ADD COLUMN versao BIGINT NULL;
@@ -0,0 +1,2 @@
+-- Percorrido em ordem de data pela reconstrução do índice de busca de itens
+CREATE INDEX idx_pedidos_arquivo_data_hora ON pedidos_arquivo (data_hora, id_pedido);
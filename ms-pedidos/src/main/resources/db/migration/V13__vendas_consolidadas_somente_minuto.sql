@@ -0,0 +1,2 @@
+-- Hora e dia passam a ser somados a partir das linhas de minuto na consulta
+DELETE FROM vendas_consolidadas WHERE granularidade <> 'MINUTO';
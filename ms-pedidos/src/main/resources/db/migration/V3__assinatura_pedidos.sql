@@ -0,0 +1,3 @@
+ALTER TABLE pedidos ADD COLUMN assinatura CHAR(64) NULL;
+
+CREATE INDEX idx_pedidos_assinatura ON pedidos (assinatura, status_pedido, data_hora);
@@ -0,0 +1 @@
+CREATE INDEX idx_pedidos_data_hora ON pedidos (data_hora, id_pedido);
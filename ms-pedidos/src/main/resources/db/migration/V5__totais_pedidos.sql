@@ -0,0 +1,15 @@
+ALTER TABLE pedidos
+  ADD COLUMN subtotal DECIMAL(10,2) NOT NULL DEFAULT 0,
+  ADD COLUMN total DECIMAL(10,2) NOT NULL DEFAULT 0,
+  ADD COLUMN quantidade_itens INT NOT NULL DEFAULT 0;
+
+UPDATE pedidos p
+  JOIN (
+    SELECT pedido_id, SUM(preco_unitario * quantidade) AS subtotal, SUM(quantidade) AS quantidade_itens
+    FROM itens_pedido
+    GROUP BY pedido_id
+  ) i ON i.pedido_id = p.id_pedido
+SET p.subtotal = i.subtotal,
+    p.quantidade_itens = i.quantidade_itens;
+
+UPDATE pedidos SET total = subtotal + 8.00;
@@ -0,0 +1,10 @@
+CREATE TABLE outbox_eventos (
+
+  id_evento BINARY(16) NOT NULL,
+  tipo VARCHAR(50) NOT NULL,
+  id_pedido BINARY(16) NOT NULL,
+  chave_roteamento VARCHAR(100) NOT NULL,
+  payload TEXT NOT NULL,
+  data_criacao DATETIME(6) NOT NULL,
+  PRIMARY KEY (id_evento)
+);
@@ -0,0 +1,25 @@
+CREATE TABLE vendas_consolidadas (
+
+  granularidade VARCHAR(10) NOT NULL,
+  inicio DATETIME(6) NOT NULL,
+  status_pedido VARCHAR(20) NOT NULL,
+  quantidade_pedidos BIGINT NOT NULL,
+  total DECIMAL(14,2) NOT NULL,
+  PRIMARY KEY (granularidade, inicio, status_pedido)
+);
+
+-- Carga inicial no fuso padrão da loja (America/Sao_Paulo, UTC-3 sem horário de verão)
+INSERT INTO vendas_consolidadas (granularidade, inicio, status_pedido, quantidade_pedidos, total)
+SELECT 'MINUTO', DATE_FORMAT(data_hora, '%Y-%m-%d %H:%i:00'), status_pedido, COUNT(*), SUM(total)
+FROM pedidos
+GROUP BY DATE_FORMAT(data_hora, '%Y-%m-%d %H:%i:00'), status_pedido;
+
+INSERT INTO vendas_consolidadas (granularidade, inicio, status_pedido, quantidade_pedidos, total)
+SELECT 'HORA', DATE_FORMAT(data_hora, '%Y-%m-%d %H:00:00'), status_pedido, COUNT(*), SUM(total)
+FROM pedidos
+GROUP BY DATE_FORMAT(data_hora, '%Y-%m-%d %H:00:00'), status_pedido;
+
+INSERT INTO vendas_consolidadas (granularidade, inicio, status_pedido, quantidade_pedidos, total)
+SELECT 'DIA', TIMESTAMP(DATE(data_hora - INTERVAL 3 HOUR)) + INTERVAL 3 HOUR, status_pedido, COUNT(*), SUM(total)
+FROM pedidos
+GROUP BY DATE(data_hora - INTERVAL 3 HOUR), status_pedido;
@@ -0,0 +1,28 @@
+CREATE TABLE pedidos_arquivo (
+
+  id_pedido BINARY(16) NOT NULL,
+  numero VARCHAR(10) NULL,
+  observacao VARCHAR(255),
+  data_hora DATETIME(6) NOT NULL,
+  status_pedido VARCHAR(20) NOT NULL,
+  subtotal DECIMAL(10,2) NOT NULL,
+  total DECIMAL(10,2) NOT NULL,
+  quantidade_itens INT NOT NULL,
+  data_arquivamento DATETIME(6) NOT NULL,
+  PRIMARY KEY (id_pedido)
+);
+
+CREATE TABLE itens_pedido_arquivo (
+
+  id_item BINARY(16) NOT NULL,
+  pedido_id BINARY(16) NOT NULL,
+  nome VARCHAR(255) NOT NULL,
+  descricao VARCHAR(255) NOT NULL,
+  preco_unitario DECIMAL(10,2) NOT NULL,
+  quantidade INT NOT NULL,
+  observacao VARCHAR(255),
+  PRIMARY KEY (id_item),
+  KEY idx_itens_pedido_arquivo_pedido (pedido_id)
+);
+
+CREATE INDEX idx_pedidos_status_data_hora ON pedidos (status_pedido, data_hora);
@@ -0,0 +1,249 @@
+package io.github.nivaldosilva.ms_pedidos.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nivaldosilva.ms_pedidos.cache.config.CacheConfiguration;
+import io.github.nivaldosilva.ms_pedidos.dto.AtualizacaoStatus;
+import io.github.nivaldosilva.ms_pedidos.dto.LoteAtualizacaoStatusRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.LotePedidosRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoResumo;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.service.PedidoService;
+import io.github.nivaldosilva.ms_pedidos.support.ConsultasRegistradas;
+import io.github.nivaldosilva.ms_pedidos.support.ProxyDataSourceConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Limita a quantidade de comandos SQL e de entidades carregadas por requisição, para que um N+1 falhe o build.
+// Os limites não dependem do tamanho da página ou do lote: uma consulta por linha estoura qualquer um deles.
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.rabbitmq.listener.simple.auto-startup=false",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "pedidos.outbox.intervalo=1h",
+        "pedidos.painel.reconciliacao=1h",
+        "pedidos.arquivamento.intervalo=1h",
+        "pedidos.arquivamento.idade-minima=3650d"
+})
+@AutoConfigureMockMvc
+@Import(ProxyDataSourceConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ConsultasPorRequisicaoTest {
+
+    private static final int QUANTIDADE_PEDIDOS = 300;
+    private static final int TAMANHO_LOTE = 100;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    private static final List<UUID> PEDIDOS = new ArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PedidoService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConsultasRegistradas consultas;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void popularUmaVez() {
+        if (PEDIDOS.isEmpty()) {
+            service.importarLote(pedidos(QUANTIDADE_PEDIDOS)).getPedidos().stream()
+                    .map(PedidoResumo::getIdPedido)
+                    .forEach(PEDIDOS::add);
+        }
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCache(CacheConfiguration.PEDIDOS).clear();
+    }
+
+    @Test
+    void criarPedido() throws Exception {
+        assertConsultas(post("/pedidos").contentType(MediaType.APPLICATION_JSON).content(json(pedido())), 8, 0);
+    }
+
+    @Test
+    void importarLote() throws Exception {
+        LotePedidosRequest lote = LotePedidosRequest.builder().pedidos(pedidos(TAMANHO_LOTE)).build();
+        assertConsultas(post("/pedidos/lote").contentType(MediaType.APPLICATION_JSON).content(json(lote)), 16, 0);
+    }
+
+    @Test
+    void obterPorId() throws Exception {
+        assertConsultas(get("/pedidos/{id}", PEDIDOS.get(0)), 1, 3);
+    }
+
+    @Test
+    void revalidarPedido() throws Exception {
+        UUID id = PEDIDOS.get(2);
+        String etag = mockMvc.perform(get("/pedidos/{id}", id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        cacheManager.getCache(CacheConfiguration.PEDIDOS).clear();
+        consultas.limpar();
+        estatisticas.clear();
+
+        int status = mockMvc.perform(get("/pedidos/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse().getStatus();
+
+        assertThat(status).as("status HTTP").isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(consultas.consultas()).as("comandos SQL executados").hasSizeLessThanOrEqualTo(1);
+        assertThat(estatisticas.getEntityLoadCount()).as("entidades carregadas").isZero();
+    }
+
+    @Test
+    void acompanharPedido() throws Exception {
+        assertConsultas(get("/pedidos/{id}/eventos", PEDIDOS.get(1)), 1, 3);
+    }
+
+    @Test
+    void obterPainel() throws Exception {
+        assertConsultas(get("/pedidos/painel"), 0, 0);
+    }
+
+    @Test
+    void listarTodos() throws Exception {
+        MvcResult primeira = assertConsultas(get("/pedidos").param("limite", "200").accept(MediaType.APPLICATION_JSON),
+                1, 0);
+        String cursor = objectMapper.readTree(primeira.getResponse().getContentAsString()).get("proximo_cursor").asText();
+        assertConsultas(get("/pedidos").param("limite", "200").param("cursor", cursor).accept(MediaType.APPLICATION_JSON),
+                1, 0);
+    }
+
+    @Test
+    void exportarResumos() throws Exception {
+        assertConsultas(get("/pedidos").accept(MediaType.APPLICATION_NDJSON), 1, 0);
+    }
+
+    @Test
+    void buscarPorItens() throws Exception {
+        assertConsultas(get("/pedidos/busca").param("termos", "pizza grande").param("limite", "200"), 2, 0);
+    }
+
+    @Test
+    void atualizarPedido() throws Exception {
+        UUID id = service.criarPedido(pedido()).getIdPedido();
+        PedidoRequest alterado = pedido();
+        alterado.getItens().get(0).setQuantidade(3);
+        assertConsultas(put("/pedidos/{id}", id).contentType(MediaType.APPLICATION_JSON).content(json(alterado)), 10, 3);
+    }
+
+    @Test
+    void atualizarStatus() throws Exception {
+        UUID id = service.criarPedido(pedido()).getIdPedido();
+        AtualizacaoStatus status = AtualizacaoStatus.builder().status(StatusPedido.EM_PREPARO).build();
+        assertConsultas(patch("/pedidos/{id}/status", id).contentType(MediaType.APPLICATION_JSON).content(json(status)),
+                10, 0);
+    }
+
+    @Test
+    void atualizarStatusEmLote() throws Exception {
+        List<LoteAtualizacaoStatusRequest.ItemAtualizacao> atualizacoes = service.importarLote(pedidos(TAMANHO_LOTE))
+                .getPedidos().stream()
+                .map(resumo -> LoteAtualizacaoStatusRequest.ItemAtualizacao.builder()
+                        .idPedido(resumo.getIdPedido())
+                        .status(StatusPedido.EM_PREPARO)
+                        .build())
+                .toList();
+        LoteAtualizacaoStatusRequest lote = LoteAtualizacaoStatusRequest.builder().atualizacoes(atualizacoes).build();
+        assertConsultas(patch("/pedidos/status").contentType(MediaType.APPLICATION_JSON).content(json(lote)), 18, 0);
+    }
+
+    @Test
+    void aprovarPagamento() throws Exception {
+        UUID id = service.criarPedido(pedido()).getIdPedido();
+        assertConsultas(put("/pedidos/{id}/pago", id), 10, 0);
+    }
+
+    @Test
+    void cancelarPedido() throws Exception {
+        UUID id = service.criarPedido(pedido()).getIdPedido();
+        assertConsultas(delete("/pedidos/{id}", id), 10, 0);
+    }
+
+    private MvcResult assertConsultas(RequestBuilder requisicao, int maximoComandos, long maximoEntidades)
+            throws Exception {
+        consultas.limpar();
+        estatisticas.clear();
+
+        MvcResult resultado = mockMvc.perform(requisicao).andReturn();
+        // O SSE continua aberto após o evento inicial; a exportação NDJSON só consulta no despacho assíncrono
+        if (resultado.getRequest().isAsyncStarted() && !resultado.getResponse().getContentType().startsWith(
+                MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            resultado = mockMvc.perform(asyncDispatch(resultado)).andReturn();
+        }
+
+        assertThat(resultado.getResponse().getStatus()).as("status HTTP").isBetween(200, 299);
+        assertThat(consultas.consultas()).as("comandos SQL executados").hasSizeLessThanOrEqualTo(maximoComandos);
+        assertThat(estatisticas.getEntityLoadCount()).as("entidades carregadas").isLessThanOrEqualTo(maximoEntidades);
+        return resultado;
+    }
+
+    private String json(Object corpo) throws Exception {
+        return objectMapper.writeValueAsString(corpo);
+    }
+
+    private static List<PedidoRequest> pedidos(int quantidade) {
+        return IntStream.range(0, quantidade).mapToObj(i -> pedido()).toList();
+    }
+
+    private static PedidoRequest pedido() {
+        return PedidoRequest.builder()
+                .itens(new ArrayList<>(List.of(
+                        item("Pizza " + UUID.randomUUID(), "21.00"),
+                        item("Refrigerante", "8.00"))))
+                .build();
+    }
+
+    private static PedidoRequest.ItemRequest item(String nome, String preco) {
+        return PedidoRequest.ItemRequest.builder()
+                .nome(nome)
+                .descricao("Grande")
+                .precoUnitario(new BigDecimal(preco))
+                .quantidade(1)
+                .build();
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.nivaldosilva.ms_pedidos.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
+import io.github.nivaldosilva.ms_pedidos.service.PedidoService;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Dois MySQL locais com replicação GTID de verdade; @@server_id diz qual instância atendeu a transação.
+// Os testes rodam em ordem porque cada um deixa a réplica num estado pior que o anterior.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "eureka.client.enabled=false",
+        "spring.rabbitmq.listener.simple.auto-startup=false",
+        "pedidos.outbox.intervalo=1h",
+        "pedidos.painel.reconciliacao=1h",
+        "pedidos.arquivamento.intervalo=1h",
+        "pedidos.replica.habilitada=true",
+        "pedidos.replica.atraso-maximo=5s",
+        "pedidos.replica.intervalo-verificacao=1h",
+        "pedidos.replica.datasource.connection-timeout=2000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RoteamentoDataSourceTest {
+
+    private static final int ID_PRIMARIO = 1;
+    private static final int ID_REPLICA = 2;
+
+    private static final Network REDE = Network.newNetwork();
+
+    @Container
+    static MySQLContainer<?> primario = new MySQLContainer<>("mysql:8.4")
+            .withNetwork(REDE)
+            .withNetworkAliases("primario")
+            .withCommand("--server-id=" + ID_PRIMARIO, "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.4")
+            .withNetwork(REDE)
+            .withCommand("--server-id=" + ID_REPLICA, "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    @DynamicPropertySource
+    static void bancos(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primario::getJdbcUrl);
+        registry.add("spring.datasource.username", primario::getUsername);
+        registry.add("spring.datasource.password", primario::getPassword);
+        registry.add("pedidos.replica.datasource.jdbc-url", replica::getJdbcUrl);
+        // SHOW REPLICA STATUS exige REPLICATION CLIENT, que o usuário da aplicação não tem
+        registry.add("pedidos.replica.datasource.username", () -> "root");
+        registry.add("pedidos.replica.datasource.password", replica::getPassword);
+    }
+
+    // A réplica ignora o que o primário gravou na inicialização do contêiner e passa a seguir dali em diante
+    @BeforeAll
+    static void iniciarReplicacao() throws SQLException {
+        String gtidsPrimario;
+        try (Connection conexao = root(primario);
+                Statement statement = conexao.createStatement();
+                ResultSet resultado = statement.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+            resultado.next();
+            gtidsPrimario = resultado.getString(1);
+        }
+        executarNaReplica(
+                "RESET BINARY LOGS AND GTIDS",
+                "SET GLOBAL gtid_purged = '" + gtidsPrimario + "'",
+                "CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'primario', SOURCE_PORT = 3306, SOURCE_USER = 'root', "
+                        + "SOURCE_PASSWORD = '" + primario.getPassword() + "', SOURCE_AUTO_POSITION = 1, "
+                        + "GET_SOURCE_PUBLIC_KEY = 1",
+                "START REPLICA");
+    }
+
+    @Autowired
+    private MonitorReplica monitorReplica;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PedidoService service;
+
+    @Test
+    @Order(1)
+    void leiturasVaoParaReplicaEEscritasParaPrimario() {
+        aguardar(() -> {
+            monitorReplica.verificar();
+            return monitorReplica.isDisponivel();
+        });
+
+        assertThat(servidor(true)).isEqualTo(ID_REPLICA);
+        assertThat(servidor(false)).isEqualTo(ID_PRIMARIO);
+    }
+
+    @Test
+    @Order(2)
+    void pedidoPorIdIgnoraReplicaAtrasada() throws SQLException {
+        executarNaReplica("STOP REPLICA", "CHANGE REPLICATION SOURCE TO SOURCE_DELAY = 3600", "START REPLICA");
+        aguardar(() -> {
+            monitorReplica.verificar();
+            return monitorReplica.isDisponivel();
+        });
+        long pedidosNaReplica = contarPedidos();
+
+        UUID id = service.criarPedido(pedido()).getIdPedido();
+        monitorReplica.verificar();
+
+        assertThat(monitorReplica.isDisponivel()).as("atraso ainda dentro do limite").isTrue();
+        assertThat(contarPedidos()).as("pedidos lidos da réplica").isEqualTo(pedidosNaReplica);
+        assertThat(service.obterPorId(id).getIdPedido()).isEqualTo(id);
+        assertThat(service.obterVersao(id)).isNotNull();
+    }
+
+    @Test
+    @Order(3)
+    void atrasoAcimaDoLimiteDesviaLeiturasParaPrimario() throws SQLException {
+        // O pedido criado no teste anterior continua retido pelo SOURCE_DELAY e o atraso só cresce
+        aguardar(() -> {
+            monitorReplica.verificar();
+            return !monitorReplica.isDisponivel();
+        });
+        assertThat(servidor(true)).isEqualTo(ID_PRIMARIO);
+
+        executarNaReplica("STOP REPLICA", "CHANGE REPLICATION SOURCE TO SOURCE_DELAY = 0", "START REPLICA");
+        aguardar(() -> {
+            monitorReplica.verificar();
+            return monitorReplica.isDisponivel();
+        });
+        assertThat(servidor(true)).isEqualTo(ID_REPLICA);
+    }
+
+    @Test
+    @Order(4)
+    void instanciaSemReplicacaoNaoRecebeLeituras() throws SQLException {
+        executarNaReplica("STOP REPLICA", "RESET REPLICA ALL");
+        monitorReplica.verificar();
+
+        assertThat(monitorReplica.isDisponivel()).isFalse();
+        assertThat(servidor(true)).isEqualTo(ID_PRIMARIO);
+    }
+
+    @Test
+    @Order(5)
+    void replicaForaDoArUsaPrimario() {
+        replica.stop();
+        monitorReplica.verificar();
+
+        assertThat(monitorReplica.isDisponivel()).isFalse();
+        assertThat(servidor(true)).isEqualTo(ID_PRIMARIO);
+    }
+
+    private int servidor(boolean somenteLeitura) {
+        return transacao(somenteLeitura).execute(status ->
+                jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private long contarPedidos() {
+        return transacao(true).execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos", Long.class));
+    }
+
+    private TransactionTemplate transacao(boolean somenteLeitura) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(somenteLeitura);
+        return template;
+    }
+
+    private static void aguardar(BooleanSupplier condicao) {
+        Instant limite = Instant.now().plus(Duration.ofSeconds(30));
+        while (!condicao.getAsBoolean()) {
+            assertThat(Instant.now()).as("tempo de espera da réplica").isBefore(limite);
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void executarNaReplica(String... comandos) throws SQLException {
+        try (Connection conexao = root(replica); Statement statement = conexao.createStatement()) {
+            for (String comando : comandos) {
+                statement.execute(comando);
+            }
+        }
+    }
+
+    private static Connection root(MySQLContainer<?> mysql) throws SQLException {
+        return DriverManager.getConnection(mysql.getJdbcUrl(), "root", mysql.getPassword());
+    }
+
+    private static PedidoRequest pedido() {
+        return PedidoRequest.builder()
+                .itens(List.of(PedidoRequest.ItemRequest.builder()
+                        .nome("Pizza " + UUID.randomUUID())
+                        .descricao("Grande")
+                        .precoUnitario(new BigDecimal("21.00"))
+                        .quantidade(1)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.nivaldosilva.ms_pedidos.rabbitmq.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nivaldosilva.ms_pedidos.dto.PagamentoResponse;
+import io.github.nivaldosilva.ms_pedidos.dto.PedidoRequest;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPagamento;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.service.PedidoService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// O lote chega como o contêiner do RabbitMQ o entregaria; só as confirmações mudam o pedido
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.rabbitmq.listener.simple.auto-startup=false",
+        "pedidos.outbox.intervalo=1h",
+        "pedidos.painel.reconciliacao=1h",
+        "pedidos.arquivamento.intervalo=1h"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class PagamentoListenerTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    @Autowired
+    private PagamentoListener listener;
+
+    @Autowired
+    private PedidoService service;
+
+    @Test
+    void loteConfirmadoMarcaPedidosComoPagos() {
+        UUID confirmado = service.criarPedido(pedido("Pizza")).getIdPedido();
+        UUID outroConfirmado = service.criarPedido(pedido("Esfiha")).getIdPedido();
+        UUID aguardando = service.criarPedido(pedido("Lasanha")).getIdPedido();
+
+        listener.receberMensagens(List.of(
+                pagamento(confirmado, StatusPagamento.CONFIRMADO),
+                pagamento(aguardando, StatusPagamento.AGUARDANDO_CONFIRMACAO),
+                pagamento(outroConfirmado, StatusPagamento.CONFIRMADO)));
+
+        assertThat(status(confirmado)).isEqualTo(StatusPedido.PAGO.name());
+        assertThat(status(outroConfirmado)).isEqualTo(StatusPedido.PAGO.name());
+        assertThat(status(aguardando)).isEqualTo(StatusPedido.REALIZADO.name());
+    }
+
+    @Test
+    void reentregaDeConfirmacaoNaoFalhaOLote() {
+        UUID id = service.criarPedido(pedido("Calzone")).getIdPedido();
+        PagamentoResponse confirmacao = pagamento(id, StatusPagamento.CONFIRMADO);
+
+        listener.receberMensagens(List.of(confirmacao));
+        listener.receberMensagens(List.of(confirmacao));
+
+        assertThat(status(id)).isEqualTo(StatusPedido.PAGO.name());
+    }
+
+    private String status(UUID id) {
+        return service.obterPorId(id).getStatus().getCodigo();
+    }
+
+    private static PagamentoResponse pagamento(UUID idPedido, StatusPagamento status) {
+        return PagamentoResponse.builder()
+                .idPagamento(UUID.randomUUID())
+                .idPedido(idPedido)
+                .valor(new BigDecimal("21.00"))
+                .statusPagamento(status)
+                .build();
+    }
+
+    private static PedidoRequest pedido(String nome) {
+        return PedidoRequest.builder()
+                .itens(List.of(PedidoRequest.ItemRequest.builder()
+                        .nome(nome + " " + UUID.randomUUID())
+                        .descricao("Grande")
+                        .precoUnitario(new BigDecimal("21.00"))
+                        .quantidade(1)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.nivaldosilva.ms_pedidos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nivaldosilva.ms_pedidos.enums.GranularidadeRelatorio;
+import io.github.nivaldosilva.ms_pedidos.enums.StatusPedido;
+import io.github.nivaldosilva.ms_pedidos.support.ConsultasRegistradas;
+import io.github.nivaldosilva.ms_pedidos.support.PlanoExecucao;
+import io.github.nivaldosilva.ms_pedidos.support.ProxyDataSourceConfiguration;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Falha quando uma consulta de repositório passa a ler a tabela inteira (type = ALL no EXPLAIN).
+// Fica de fora apenas PedidoRepository.streamResumos, a exportação completa, que lê todos os pedidos por definição.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "eureka.client.enabled=false",
+        "spring.rabbitmq.listener.simple.auto-startup=false",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "pedidos.outbox.intervalo=1h",
+        "pedidos.painel.reconciliacao=1h",
+        "pedidos.arquivamento.intervalo=1h",
+        "pedidos.arquivamento.idade-minima=3650d"
+})
+@Import(ProxyDataSourceConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PlanoConsultasRepositoryTest {
+
+    private static final int QUANTIDADE_PEDIDOS = 20_000;
+    private static final int QUANTIDADE_ARQUIVADOS = 5_000;
+    private static final Instant AGORA = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    private static final List<UUID> PEDIDOS = new ArrayList<>();
+    private static final List<UUID> ARQUIVADOS = new ArrayList<>();
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private PedidoArquivadoRepository arquivoRepository;
+
+    @Autowired
+    private VendaConsolidadaRepository vendaRepository;
+
+    @Autowired
+    private EventoOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConsultasRegistradas consultas;
+
+    @BeforeEach
+    void popularUmaVez() {
+        if (PEDIDOS.isEmpty()) {
+            popular();
+        }
+        consultas.limpar();
+    }
+
+    @Test
+    void buscaPorIdComItensUsaChavePrimaria() throws Exception {
+        pedidoRepository.findByIdWithItens(PEDIDOS.get(100));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void buscaDeSituacaoUsaChavePrimaria() throws Exception {
+        pedidoRepository.findSituacaoById(PEDIDOS.get(100));
+        transactionTemplate.executeWithoutResult(status ->
+                pedidoRepository.findSituacaoByIdParaAtualizacao(PEDIDOS.get(100)));
+        pedidoRepository.findSituacaoByIdIn(PEDIDOS.subList(0, 50));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void transicaoDeStatusUsaChavePrimaria() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            pedidoRepository.transicionarStatus(PEDIDOS.get(0), StatusPedido.origensPara(StatusPedido.CANCELADO),
+                    StatusPedido.CANCELADO);
+            pedidoRepository.transicionarStatusEmLote(PEDIDOS.subList(0, 50), StatusPedido.REALIZADO, StatusPedido.PAGO);
+            status.setRollbackOnly();
+        });
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void verificacaoDeDuplicidadeUsaIndiceDeAssinatura() throws Exception {
+        pedidoRepository.findByAssinaturaAndStatusAndDataHoraAfterWithItens(
+                assinatura(7), StatusPedido.REALIZADO, AGORA.minus(Duration.ofMinutes(3)));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void paginacaoPorCursorUsaIndiceDeDataHora() throws Exception {
+        pedidoRepository.findPrimeiraPagina(Limit.of(50));
+        pedidoRepository.findPaginaApos(AGORA.minus(Duration.ofDays(10)), PEDIDOS.get(0), Limit.of(50));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void contagemDoPainelUsaIndiceDeCobertura() throws Exception {
+        pedidoRepository.contarPorStatus(AGORA.truncatedTo(ChronoUnit.DAYS));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void arquivamentoUsaIndiceDeStatusEDataHora() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<byte[]> ids = pedidoRepository.findIdsParaArquivamento(
+                    List.of(StatusPedido.ENTREGUE.name(), StatusPedido.CANCELADO.name()),
+                    AGORA.minus(Duration.ofDays(20)), 500);
+            pedidoRepository.contarPorStatusDosPedidos(PEDIDOS.subList(0, 50), AGORA.truncatedTo(ChronoUnit.DAYS));
+            arquivoRepository.copiarPedidos(ids, AGORA);
+            arquivoRepository.copiarItens(ids);
+            pedidoRepository.removerItensArquivados(ids);
+            pedidoRepository.removerArquivados(ids);
+            status.setRollbackOnly();
+        });
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void buscaNoArquivoUsaChavePrimaria() throws Exception {
+        arquivoRepository.findByIdWithItens(ARQUIVADOS.get(100));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void indiceDeBuscaDeItensUsaIndices() throws Exception {
+        pedidoRepository.findPaginaApos(AGORA.minus(Duration.ofDays(10)), new UUID(0, 0), Limit.of(500));
+        pedidoRepository.findItensIndexadosByIdPedidoIn(PEDIDOS.subList(0, 50));
+        pedidoRepository.findResumosByIdIn(PEDIDOS.subList(0, 50));
+        arquivoRepository.findPaginaApos(AGORA.minus(Duration.ofDays(31)), new UUID(0, 0), Limit.of(500));
+        arquivoRepository.findItensIndexadosByIdPedidoIn(ARQUIVADOS.subList(0, 50));
+        arquivoRepository.findResumosByIdIn(ARQUIVADOS.subList(0, 50));
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void relatorioDeVendasUsaChavePrimariaDaConsolidacao() throws Exception {
+        Instant inicio = AGORA.minus(Duration.ofHours(6));
+        vendaRepository.somarMinutos(inicio, AGORA, 0, 60, null);
+        vendaRepository.somarMinutos(inicio, AGORA, -10800, 3600, StatusPedido.PAGO.name());
+        assertSemVarreduraCompleta();
+    }
+
+    @Test
+    void publicacaoDoOutboxUsaChavePrimaria() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.findLoteParaPublicacao(100);
+            outboxRepository.deleteAllByIdInBatch(List.of(UUID.randomUUID(), UUID.randomUUID()));
+            status.setRollbackOnly();
+        });
+        assertSemVarreduraCompleta();
+    }
+
+    private void assertSemVarreduraCompleta() throws Exception {
+        List<String> varreduras = PlanoExecucao.varredurasCompletas(dataSource, consultas.consultas());
+        assertThat(varreduras).as("consultas com varredura completa").isEmpty();
+    }
+
+    private void popular() {
+        List<Object[]> pedidos = new ArrayList<>();
+        List<Object[]> itens = new ArrayList<>();
+        StatusPedido[] status = StatusPedido.values();
+        for (int i = 0; i < QUANTIDADE_PEDIDOS; i++) {
+            UUID id = UUID.randomUUID();
+            PEDIDOS.add(id);
+            pedidos.add(new Object[] { bytes(id), "#" + i, Timestamp.from(AGORA.minus(Duration.ofMinutes(2L * i))),
+                    status[i % status.length].name(), assinatura(i) });
+            itens.add(new Object[] { bytes(UUID.randomUUID()), bytes(id) });
+            itens.add(new Object[] { bytes(UUID.randomUUID()), bytes(id) });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO pedidos (id_pedido, numero, data_hora, status_pedido, assinatura, subtotal, total, quantidade_itens, versao)
+                VALUES (?, ?, ?, ?, ?, 42.00, 50.00, 2, 0)""", pedidos);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO itens_pedido (id_item, pedido_id, nome, descricao, preco_unitario, quantidade)
+                VALUES (?, ?, 'Pizza', 'Grande', 21.00, 1)""", itens);
+
+        List<Object[]> arquivados = new ArrayList<>();
+        List<Object[]> itensArquivados = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE_ARQUIVADOS; i++) {
+            UUID id = UUID.randomUUID();
+            ARQUIVADOS.add(id);
+            Timestamp dataHora = Timestamp.from(AGORA.minus(Duration.ofDays(30)).minus(Duration.ofMinutes(i)));
+            arquivados.add(new Object[] { bytes(id), dataHora, i % 2 == 0 ? "ENTREGUE" : "CANCELADO", dataHora });
+            itensArquivados.add(new Object[] { bytes(UUID.randomUUID()), bytes(id) });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO pedidos_arquivo (id_pedido, data_hora, status_pedido, subtotal, total, quantidade_itens, data_arquivamento)
+                VALUES (?, ?, ?, 42.00, 50.00, 1, ?)""", arquivados);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO itens_pedido_arquivo (id_item, pedido_id, nome, descricao, preco_unitario, quantidade)
+                VALUES (?, ?, 'Pizza', 'Grande', 42.00, 1)""", itensArquivados);
+
+        List<Object[]> vendas = new ArrayList<>();
+        for (int minuto = 0; minuto < 5_000; minuto++) {
+            Timestamp inicio = Timestamp.from(AGORA.minus(Duration.ofMinutes(minuto)));
+            vendas.add(new Object[] { GranularidadeRelatorio.MINUTO.name(), inicio, StatusPedido.PAGO.name() });
+            vendas.add(new Object[] { GranularidadeRelatorio.MINUTO.name(), inicio, StatusPedido.ENTREGUE.name() });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO vendas_consolidadas (granularidade, inicio, status_pedido, quantidade_pedidos, total)
+                VALUES (?, ?, ?, 3, 150.00)""", vendas);
+
+        List<Object[]> eventos = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            eventos.add(new Object[] { bytes(UUID.randomUUID()), bytes(PEDIDOS.get(i)), Timestamp.from(AGORA) });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO outbox_eventos (id_evento, tipo, id_pedido, chave_roteamento, payload, data_criacao)
+                VALUES (?, 'StatusPedidoAlterado', ?, 'pedido.status.pago', '{}', ?)""", eventos);
+
+        jdbcTemplate.execute("ANALYZE TABLE pedidos, itens_pedido, pedidos_arquivo, itens_pedido_arquivo, vendas_consolidadas, outbox_eventos");
+    }
+
+    private static String assinatura(int indice) {
+        return "%064x".formatted(indice);
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.nivaldosilva.ms_pedidos.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+// Guarda cada comando com os parâmetros do primeiro conjunto, para poder repeti-lo com EXPLAIN
+public class ConsultasRegistradas implements QueryExecutionListener {
+
+    private final List<ConsultaExecutada> consultas = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametros = queryInfo.getParametersList();
+            consultas.add(new ConsultaExecutada(queryInfo.getQuery(),
+                    parametros.isEmpty() ? List.of() : List.copyOf(parametros.get(0))));
+        }
+    }
+
+    public List<ConsultaExecutada> consultas() {
+        return List.copyOf(consultas);
+    }
+
+    public void limpar() {
+        consultas.clear();
+    }
+}
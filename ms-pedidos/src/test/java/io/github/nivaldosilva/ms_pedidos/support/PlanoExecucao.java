@@ -0,0 +1,63 @@
+package io.github.nivaldosilva.ms_pedidos.support;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.experimental.UtilityClass;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+@UtilityClass
+public class PlanoExecucao {
+
+    // INSERT ... VALUES não tem plano de leitura; INSERT ... SELECT tem
+    public static boolean possuiPlanoDeLeitura(String sql) {
+        String comando = sql.strip().toLowerCase(Locale.ROOT);
+        return comando.startsWith("select") || comando.startsWith("update") || comando.startsWith("delete")
+                || (comando.startsWith("insert") && comando.contains("select"));
+    }
+
+    public static List<Map<String, Object>> explicar(DataSource dataSource, ConsultaExecutada consulta) throws Exception {
+        try (Connection conexao = dataSource.getConnection();
+                PreparedStatement statement = conexao.prepareStatement("EXPLAIN " + consulta.sql())) {
+            for (ParameterSetOperation parametro : consulta.parametros()) {
+                parametro.getMethod().invoke(statement, parametro.getArgs());
+            }
+            List<Map<String, Object>> linhas = new ArrayList<>();
+            try (ResultSet resultado = statement.executeQuery()) {
+                ResultSetMetaData metadados = resultado.getMetaData();
+                while (resultado.next()) {
+                    Map<String, Object> linha = new LinkedHashMap<>();
+                    for (int coluna = 1; coluna <= metadados.getColumnCount(); coluna++) {
+                        linha.put(metadados.getColumnLabel(coluna), resultado.getObject(coluna));
+                    }
+                    linhas.add(linha);
+                }
+            }
+            return linhas;
+        }
+    }
+
+    // Linhas do EXPLAIN com type = ALL sobre tabelas reais; a linha de destino de um INSERT sempre aparece como ALL
+    public static List<String> varredurasCompletas(DataSource dataSource, List<ConsultaExecutada> consultas) throws Exception {
+        List<String> varreduras = new ArrayList<>();
+        for (ConsultaExecutada consulta : consultas) {
+            if (!possuiPlanoDeLeitura(consulta.sql())) {
+                continue;
+            }
+            for (Map<String, Object> linha : explicar(dataSource, consulta)) {
+                String tabela = String.valueOf(linha.get("table"));
+                if ("ALL".equals(linha.get("type")) && !"INSERT".equals(linha.get("select_type")) && !tabela.startsWith("<")) {
+                    varreduras.add(tabela + " <- " + consulta.sql() + " " + linha);
+                }
+            }
+        }
+        return varreduras;
+    }
+}
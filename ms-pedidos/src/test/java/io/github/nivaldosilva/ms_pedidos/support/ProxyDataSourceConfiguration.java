@@ -0,0 +1,34 @@
+package io.github.nivaldosilva.ms_pedidos.support;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class ProxyDataSourceConfiguration {
+
+    @Bean
+    ConsultasRegistradas consultasRegistradas() {
+        return new ConsultasRegistradas();
+    }
+
+    @Bean
+    static BeanPostProcessor proxyDataSourcePostProcessor(ObjectProvider<ConsultasRegistradas> consultas) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(consultas.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}